@@ -0,0 +1,74 @@
+package com.yourname.dynamictexture.core.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LRUCache} with the get-or-load pattern ModelCache uses,
+ * under different hit ratios
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LRUCacheBenchmark {
+    private static final int CAPACITY = 100;
+    private static final int ACCESSES = 4096;
+    
+    // Fraction of the key space that fits in the cache
+    @Param({"1.0", "0.9", "0.5"})
+    public double hitRatio;
+    
+    private LRUCache<String, Object> cache;
+    private String[] accesses;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        int keySpace = (int) Math.ceil(CAPACITY / hitRatio);
+        String[] keys = new String[keySpace];
+        for (int i = 0; i < keySpace; i++) {
+            keys[i] = "pack_" + (i % 7) + ":item/model_" + i;
+        }
+        
+        Random random = new Random(42);
+        accesses = new String[ACCESSES];
+        for (int i = 0; i < ACCESSES; i++) {
+            accesses[i] = keys[random.nextInt(keySpace)];
+        }
+        
+        cache = new LRUCache<>(CAPACITY);
+        for (String key : accesses) {
+            cache.put(key, key);
+        }
+        cursor = 0;
+    }
+    
+    @Benchmark
+    public Object getOrLoad() {
+        String key = accesses[cursor];
+        cursor = (cursor + 1) & (ACCESSES - 1);
+        
+        if (cache.containsKey(key)) {
+            return cache.get(key);
+        }
+        
+        cache.put(key, key);
+        return key;
+    }
+    
+    @Benchmark
+    public Object get() {
+        String key = accesses[cursor];
+        cursor = (cursor + 1) & (ACCESSES - 1);
+        return cache.get(key);
+    }
+}
@@ -0,0 +1,76 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PixelKernels} on plain arrays, without any NativeImage transfer
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PixelKernelsBenchmark {
+    
+    @Param({"16", "128", "256", "512"})
+    public int size;
+    
+    private int[] source;
+    private int[] overlay;
+    private int[] destination;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = randomPixels(random, size * size);
+        overlay = randomPixels(random, size * size);
+        destination = new int[size * size];
+    }
+    
+    @Benchmark
+    public int[] tint() {
+        PixelKernels.tint(source, destination, destination.length, 0xFF8040);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] grayscale() {
+        PixelKernels.grayscale(source, destination, destination.length);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] resizeHalf() {
+        PixelKernels.resizeNearest(source, size, size, destination, size / 2, size / 2);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] blend() {
+        PixelKernels.blend(source, size, overlay, size, destination, size, size, 0.5f);
+        return destination;
+    }
+    
+    @Benchmark
+    public int averageColor() {
+        return PixelKernels.averageColor(source, source.length);
+    }
+    
+    private static int[] randomPixels(Random random, int count) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            // Mix of opaque, translucent and transparent pixels
+            int alpha = random.nextInt(4) == 0 ? 0 : 0x80 + random.nextInt(0x80);
+            pixels[i] = (alpha << 24) | (random.nextInt() & 0xFFFFFF);
+        }
+        return pixels;
+    }
+}
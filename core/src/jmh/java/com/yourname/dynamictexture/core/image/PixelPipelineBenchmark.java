@@ -0,0 +1,70 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resize, tint and blend as one fused pass against three separate kernel calls
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PixelPipelineBenchmark {
+    
+    @Param({"256", "1024"})
+    public int size;
+    
+    @Param({"64", "512"})
+    public int target;
+    
+    private int[] source;
+    private int[] overlay;
+    private int[] resized;
+    private int[] tinted;
+    private int[] destination;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = randomPixels(random, size * size);
+        overlay = randomPixels(random, target * target);
+        resized = new int[target * target];
+        tinted = new int[target * target];
+        destination = new int[target * target];
+    }
+    
+    @Benchmark
+    public int[] stepByStep() {
+        PixelKernels.resizeNearest(source, size, size, resized, target, target);
+        PixelKernels.tint(resized, tinted, tinted.length, 0xFF8040);
+        PixelKernels.blend(tinted, target, overlay, target, destination, target, target, 0.5f);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] fused() {
+        PixelPipeline.from(source, size, size)
+            .resize(target, target)
+            .tint(0xFF8040)
+            .blend(overlay, target, target, 0.5f)
+            .render(destination);
+        return destination;
+    }
+    
+    private static int[] randomPixels(Random random, int count) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,67 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thumbnail sized downscales: nearest, full area average, and area average from a cached mip level
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResamplerBenchmark {
+    
+    @Param({"256", "1024"})
+    public int size;
+    
+    @Param({"32", "100"})
+    public int target;
+    
+    private int[] source;
+    private int[] destination;
+    private MipChain chain;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = new int[size * size];
+        for (int i = 0; i < source.length; i++) {
+            // Mostly opaque, like item textures
+            source[i] = random.nextInt(8) == 0 ? random.nextInt() : random.nextInt() | 0xFF000000;
+        }
+        destination = new int[target * target];
+        chain = MipChain.generate(source, size, size);
+    }
+    
+    @Benchmark
+    public int[] nearest() {
+        PixelKernels.resizeNearest(source, size, size, destination, target, target);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] area() {
+        Resampler.resizeArea(source, size, size, destination, target, target);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] cachedMip() {
+        chain.resize(destination, target, target);
+        return destination;
+    }
+    
+    @Benchmark
+    public MipChain generateMips() {
+        return MipChain.generate(source, size, size);
+    }
+}
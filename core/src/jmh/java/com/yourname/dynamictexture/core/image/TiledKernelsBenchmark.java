@@ -0,0 +1,62 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against fork/join banded resize and blend on HD pack textures
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TiledKernelsBenchmark {
+    
+    @Param({"1024", "2048"})
+    public int size;
+    
+    @Param({"true", "false"})
+    public boolean parallel;
+    
+    private int[] source;
+    private int[] overlay;
+    private int[] destination;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = randomPixels(random, size * size);
+        overlay = randomPixels(random, size * size);
+        destination = new int[size * size];
+        PixelKernels.setParallelThreshold(parallel ? 512 * 512 : Integer.MAX_VALUE);
+    }
+    
+    @Benchmark
+    public int[] resizeThreeQuarters() {
+        int target = size * 3 / 4;
+        PixelKernels.resizeNearest(source, size, size, destination, target, target);
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] blend() {
+        PixelKernels.blend(source, size, overlay, size, destination, size, size, 0.5f);
+        return destination;
+    }
+    
+    private static int[] randomPixels(Random random, int count) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,96 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar against Vector API kernels on HD pack sized textures.
+ * Needs --add-modules=jdk.incubator.vector, which the jmh task passes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorKernelsBenchmark {
+    
+    @Param({"256", "512", "1024"})
+    public int size;
+    
+    @Param({"scalar", "vector"})
+    public String impl;
+    
+    private int[] source;
+    private int[] overlay;
+    private int[] destination;
+    private long[] totals;
+    private boolean vector;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = randomPixels(random, size * size);
+        overlay = randomPixels(random, size * size);
+        destination = new int[size * size];
+        totals = new long[5];
+        vector = impl.equals("vector");
+    }
+    
+    @Benchmark
+    public int[] tint() {
+        if (vector) {
+            VectorKernels.tint(source, destination, destination.length, 255, 128, 64);
+        } else {
+            ScalarKernels.tint(source, destination, 0, destination.length, 255, 128, 64);
+        }
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] grayscale() {
+        if (vector) {
+            VectorKernels.grayscale(source, destination, destination.length);
+        } else {
+            ScalarKernels.grayscale(source, destination, 0, destination.length);
+        }
+        return destination;
+    }
+    
+    @Benchmark
+    public int[] blend() {
+        if (vector) {
+            VectorKernels.blendRow(source, 0, overlay, 0, destination, 0, destination.length, 128);
+        } else {
+            ScalarKernels.blendRow(source, 0, overlay, 0, destination, 0, 0, destination.length, 128);
+        }
+        return destination;
+    }
+    
+    @Benchmark
+    public long[] averageColor() {
+        totals[0] = totals[1] = totals[2] = totals[3] = totals[4] = 0;
+        if (vector) {
+            VectorKernels.accumulate(source, source.length, totals);
+        } else {
+            ScalarKernels.accumulate(source, 0, source.length, totals);
+        }
+        return totals;
+    }
+    
+    private static int[] randomPixels(Random random, int count) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            // Mix of opaque, translucent and transparent pixels
+            int alpha = random.nextInt(4) == 0 ? 0 : 0x80 + random.nextInt(0x80);
+            pixels[i] = (alpha << 24) | (random.nextInt() & 0xFFFFFF);
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,122 @@
+package com.yourname.dynamictexture.core.io;
+
+import com.yourname.dynamictexture.core.hash.ContentHash;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Reading and hashing every texture of a pack archive through {@link ZipFile} streams,
+ * the way resource streams are copied to the heap, against {@link MappedZip}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappedZipBenchmark {
+    private static final int ENTRIES = 256;
+    
+    @Param({"1024", "16384"})
+    public int entrySize;
+    
+    @Param({"true", "false"})
+    public boolean stored;
+    
+    private Path archive;
+    private String[] names;
+    private ZipFile zipFile;
+    private MappedZip mappedZip;
+    private BufferPool pool;
+    
+    @Setup
+    public void setup() throws IOException {
+        archive = Files.createTempFile("pack", ".zip");
+        names = new String[ENTRIES];
+        Random random = new Random(42);
+        
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            for (int i = 0; i < ENTRIES; i++) {
+                // Half random, half runs, so deflate has something to do
+                byte[] data = new byte[entrySize];
+                random.nextBytes(data);
+                for (int j = entrySize / 2; j < entrySize; j++) {
+                    data[j] = (byte) (j / 64);
+                }
+                
+                names[i] = "assets/minecraft/textures/item/texture_" + i + ".png";
+                ZipEntry entry = new ZipEntry(names[i]);
+                if (stored) {
+                    CRC32 crc = new CRC32();
+                    crc.update(data);
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(data.length);
+                    entry.setCrc(crc.getValue());
+                }
+                zip.putNextEntry(entry);
+                zip.write(data);
+                zip.closeEntry();
+            }
+        }
+        
+        zipFile = new ZipFile(archive.toFile());
+        mappedZip = MappedZip.open(archive);
+        pool = new BufferPool(1 << 20, 8);
+    }
+    
+    @TearDown
+    public void tearDown() throws IOException {
+        zipFile.close();
+        mappedZip.close();
+        Files.deleteIfExists(archive);
+    }
+    
+    @Benchmark
+    public long streamCopy() throws IOException {
+        long hash = 0;
+        for (String name : names) {
+            try (InputStream stream = zipFile.getInputStream(zipFile.getEntry(name));
+                 ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                copy(stream, out);
+                hash ^= ContentHash.hash64(out.toByteArray());
+            }
+        }
+        return hash;
+    }
+    
+    @Benchmark
+    public long mapped() throws IOException {
+        long hash = 0;
+        for (String name : names) {
+            try (ResourceBytes bytes = mappedZip.read(name, pool)) {
+                hash ^= ContentHash.hash64(bytes.buffer());
+            }
+        }
+        return hash;
+    }
+    
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.yourname.dynamictexture.core.anim;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.Reader;
+
+/**
+ * The {@code animation} section of a texture's .mcmeta file
+ */
+public class AnimationMetadata {
+    public final int frametime;
+    public final boolean interpolate;
+    
+    public AnimationMetadata(int frametime, boolean interpolate) {
+        this.frametime = frametime;
+        this.interpolate = interpolate;
+    }
+    
+    /**
+     * Parse .mcmeta JSON, returning null when it has no animation section.
+     * Malformed JSON is reported as an unchecked gson exception.
+     */
+    public static AnimationMetadata parse(Reader reader) {
+        JsonElement root = JsonParser.parseReader(reader);
+        if (!root.isJsonObject()) {
+            return null;
+        }
+        
+        JsonObject json = root.getAsJsonObject();
+        if (!json.has("animation")) {
+            return null;
+        }
+        
+        JsonObject animation = json.getAsJsonObject("animation");
+        
+        int frametime = animation.has("frametime") ?
+            animation.get("frametime").getAsInt() : 1;
+        
+        boolean interpolate = animation.has("interpolate") ?
+            animation.get("interpolate").getAsBoolean() : false;
+        
+        return new AnimationMetadata(frametime, interpolate);
+    }
+}
@@ -0,0 +1,212 @@
+package com.yourname.dynamictexture.core.atlas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page allocator: a skyline for fresh space plus a free-list of released rectangles.
+ * Released rectangles are reused best-fit, split guillotine-style and merged back with free neighbours.
+ * Pure Java, no GL or Minecraft state.
+ */
+public class RegionAllocator {
+    private final SkylinePacker skyline;
+    private final List<SkylinePacker.Rect> freeList = new ArrayList<>();
+    // Frees queued while a compaction snapshot of this allocator is in flight
+    private final List<SkylinePacker.Rect> deferredFrees = new ArrayList<>();
+    private boolean deferring = false;
+    private long liveArea = 0;
+    private long freeArea = 0;
+    
+    public RegionAllocator(int width, int height) {
+        this.skyline = new SkylinePacker(width, height);
+    }
+    
+    /**
+     * Allocate a rectangle, or return null if the page has no room
+     */
+    public SkylinePacker.Rect allocate(int width, int height) {
+        SkylinePacker.Rect rect = allocateFromFreeList(width, height);
+        
+        if (rect == null) {
+            rect = skyline.insert(width, height);
+        }
+        
+        if (rect != null) {
+            liveArea += (long) width * height;
+        }
+        
+        return rect;
+    }
+    
+    /**
+     * Best-fit search of the free-list
+     */
+    private SkylinePacker.Rect allocateFromFreeList(int width, int height) {
+        int bestIndex = -1;
+        long bestWaste = Long.MAX_VALUE;
+        
+        for (int i = 0; i < freeList.size(); i++) {
+            SkylinePacker.Rect free = freeList.get(i);
+            if (free.width >= width && free.height >= height) {
+                long waste = (long) free.width * free.height - (long) width * height;
+                if (waste < bestWaste) {
+                    bestIndex = i;
+                    bestWaste = waste;
+                    if (waste == 0) {
+                        break;
+                    }
+                }
+            }
+        }
+        
+        if (bestIndex < 0) {
+            return null;
+        }
+        
+        SkylinePacker.Rect free = freeList.remove(bestIndex);
+        freeArea -= (long) free.width * free.height;
+        
+        // Split leftover along the shorter axis to keep the larger piece square-ish
+        int rightWidth = free.width - width;
+        int bottomHeight = free.height - height;
+        if (rightWidth > bottomHeight) {
+            addFree(free.x + width, free.y, rightWidth, free.height);
+            addFree(free.x, free.y + height, width, bottomHeight);
+        } else {
+            addFree(free.x, free.y + height, free.width, bottomHeight);
+            addFree(free.x + width, free.y, rightWidth, height);
+        }
+        
+        return new SkylinePacker.Rect(free.x, free.y, width, height);
+    }
+    
+    /**
+     * Return a rectangle to the free-list, merging it with free neighbours that share a full edge.
+     * Releasing the last live rectangle resets the page so the whole of it is usable again.
+     * While deferring, the rectangle is only queued; see {@link #deferFrees}.
+     */
+    public void free(SkylinePacker.Rect rect) {
+        if (deferring) {
+            deferredFrees.add(rect);
+            return;
+        }
+        liveArea -= (long) rect.width * rect.height;
+        if (liveArea == 0) {
+            reset();
+            return;
+        }
+        addFree(rect.x, rect.y, rect.width, rect.height);
+    }
+    
+    private void addFree(int x, int y, int width, int height) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        
+        freeArea += (long) width * height;
+        SkylinePacker.Rect merged = new SkylinePacker.Rect(x, y, width, height);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int i = 0; i < freeList.size(); i++) {
+                SkylinePacker.Rect union = union(merged, freeList.get(i));
+                if (union != null) {
+                    freeList.remove(i);
+                    merged = union;
+                    changed = true;
+                    break;
+                }
+            }
+        }
+        freeList.add(merged);
+    }
+    
+    /**
+     * Get the rectangle covering two edge-adjacent rectangles, or null if their union isn't one
+     */
+    private static SkylinePacker.Rect union(SkylinePacker.Rect a, SkylinePacker.Rect b) {
+        if (a.x == b.x && a.width == b.width) {
+            if (a.y + a.height == b.y) {
+                return new SkylinePacker.Rect(a.x, a.y, a.width, a.height + b.height);
+            }
+            if (b.y + b.height == a.y) {
+                return new SkylinePacker.Rect(a.x, b.y, a.width, a.height + b.height);
+            }
+        }
+        if (a.y == b.y && a.height == b.height) {
+            if (a.x + a.width == b.x) {
+                return new SkylinePacker.Rect(a.x, a.y, a.width + b.width, a.height);
+            }
+            if (b.x + b.width == a.x) {
+                return new SkylinePacker.Rect(b.x, a.y, a.width + b.width, a.height);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Queue frees instead of applying them, so the layout stays as the compaction snapshot saw it
+     */
+    public void deferFrees() {
+        deferring = true;
+    }
+    
+    /**
+     * Stop deferring and apply queued frees; used when a compaction is abandoned
+     */
+    public void applyDeferredFrees() {
+        deferring = false;
+        for (SkylinePacker.Rect rect : deferredFrees) {
+            free(rect);
+        }
+        deferredFrees.clear();
+    }
+    
+    /**
+     * Stop deferring and drop queued frees; used when a compacted allocator replaces this one
+     */
+    public void discardDeferredFrees() {
+        deferring = false;
+        deferredFrees.clear();
+    }
+    
+    public boolean isDeferringFrees() {
+        return deferring;
+    }
+    
+    /**
+     * Forget all allocations
+     */
+    public void reset() {
+        skyline.reset();
+        freeList.clear();
+        liveArea = 0;
+        freeArea = 0;
+    }
+    
+    /**
+     * Get area held by live allocations
+     */
+    public long getLiveArea() {
+        return liveArea;
+    }
+    
+    /**
+     * Get area sitting in the free-list
+     */
+    public long getFreeArea() {
+        return freeArea;
+    }
+    
+    /**
+     * Get fraction of used space that is free-list holes, 0 when compact
+     */
+    public float getFragmentation() {
+        long used = liveArea + freeArea;
+        return used == 0 ? 0.0f : (float) freeArea / used;
+    }
+    
+    public int getFreeListSize() {
+        return freeList.size();
+    }
+}
@@ -0,0 +1,188 @@
+package com.yourname.dynamictexture.core.atlas;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental skyline rectangle packer (bottom-left heuristic).
+ * Pure Java, no GL or Minecraft state.
+ */
+public final class SkylinePacker {
+    private final int width;
+    private final int height;
+    private final List<Segment> skyline = new ArrayList<>();
+    private long usedArea = 0;
+    
+    public SkylinePacker(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Invalid packer size: " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        reset();
+    }
+    
+    /**
+     * Insert a rectangle, returning its position or null if it does not fit
+     */
+    public Rect insert(int rectWidth, int rectHeight) {
+        if (rectWidth <= 0 || rectHeight <= 0 || rectWidth > width || rectHeight > height) {
+            return null;
+        }
+        
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+        
+        for (int i = 0; i < skyline.size(); i++) {
+            int y = fit(i, rectWidth, rectHeight);
+            if (y < 0) {
+                continue;
+            }
+            
+            int top = y + rectHeight;
+            int segmentWidth = skyline.get(i).width;
+            if (top < bestTop || (top == bestTop && segmentWidth < bestWidth)) {
+                bestIndex = i;
+                bestTop = top;
+                bestWidth = segmentWidth;
+                bestY = y;
+            }
+        }
+        
+        if (bestIndex < 0) {
+            return null;
+        }
+        
+        Rect rect = new Rect(skyline.get(bestIndex).x, bestY, rectWidth, rectHeight);
+        addSegment(bestIndex, rect);
+        usedArea += (long) rectWidth * rectHeight;
+        return rect;
+    }
+    
+    /**
+     * Get the y a rectangle would rest at when placed on segment, or -1
+     */
+    private int fit(int index, int rectWidth, int rectHeight) {
+        int x = skyline.get(index).x;
+        if (x + rectWidth > width) {
+            return -1;
+        }
+        
+        int remaining = rectWidth;
+        int y = 0;
+        int i = index;
+        while (remaining > 0) {
+            Segment segment = skyline.get(i);
+            y = Math.max(y, segment.y);
+            if (y + rectHeight > height) {
+                return -1;
+            }
+            remaining -= segment.width;
+            i++;
+        }
+        
+        return y;
+    }
+    
+    /**
+     * Raise the skyline under a placed rectangle
+     */
+    private void addSegment(int index, Rect rect) {
+        skyline.add(index, new Segment(rect.x, rect.y + rect.height, rect.width));
+        
+        // Shrink or drop segments now covered by the new one
+        int right = rect.x + rect.width;
+        int i = index + 1;
+        while (i < skyline.size()) {
+            Segment segment = skyline.get(i);
+            if (segment.x >= right) {
+                break;
+            }
+            
+            int overlap = right - segment.x;
+            if (overlap >= segment.width) {
+                skyline.remove(i);
+            } else {
+                segment.x += overlap;
+                segment.width -= overlap;
+                break;
+            }
+        }
+        
+        // Merge neighbours at the same height
+        i = 0;
+        while (i < skyline.size() - 1) {
+            Segment current = skyline.get(i);
+            Segment next = skyline.get(i + 1);
+            if (current.y == next.y) {
+                current.width += next.width;
+                skyline.remove(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+    
+    /**
+     * Forget all placed rectangles
+     */
+    public void reset() {
+        skyline.clear();
+        skyline.add(new Segment(0, 0, width));
+        usedArea = 0;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    /**
+     * Get fraction of the page covered by placed rectangles
+     */
+    public float getOccupancy() {
+        return (float) usedArea / ((long) width * height);
+    }
+    
+    /**
+     * Skyline segment: a horizontal run at height y
+     */
+    private static class Segment {
+        int x;
+        int y;
+        int width;
+        
+        Segment(int x, int y, int width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+    
+    /**
+     * Placed rectangle
+     */
+    public static class Rect {
+        public final int x;
+        public final int y;
+        public final int width;
+        public final int height;
+        
+        public Rect(int x, int y, int width, int height) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+        
+        @Override
+        public String toString() {
+            return width + "x" + height + "@" + x + "," + y;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.yourname.dynamictexture.core.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Values keyed by the content hash they were built from, shared between every name with that content.
+ * Each {@link #add} or successful {@link #acquire} takes a reference and each {@link #release} drops one;
+ * the value is handed to the release callback when the last reference goes. Not thread-safe.
+ */
+public class ContentStore<V> {
+    private final Map<Long, Slot<V>> slots = new HashMap<>();
+    private final Consumer<V> onRelease;
+    
+    /**
+     * @param onRelease called with each value once nothing references it any more
+     */
+    public ContentStore(Consumer<V> onRelease) {
+        this.onRelease = onRelease;
+    }
+    
+    /**
+     * Get the value for a hash without taking a reference, or null if none is stored
+     */
+    public V get(long hash) {
+        Slot<V> slot = slots.get(hash);
+        return slot != null ? slot.value : null;
+    }
+    
+    /**
+     * Take a reference to the value for a hash, or return null if none is stored
+     */
+    public V acquire(long hash) {
+        Slot<V> slot = slots.get(hash);
+        if (slot == null) {
+            return null;
+        }
+        slot.refs++;
+        return slot.value;
+    }
+    
+    /**
+     * Store a value with one reference.
+     * If the hash is already stored, takes a reference to the stored value and returns it instead;
+     * the caller still owns {@code value} in that case.
+     */
+    public V add(long hash, V value) {
+        Slot<V> slot = slots.get(hash);
+        if (slot != null) {
+            slot.refs++;
+            return slot.value;
+        }
+        
+        slots.put(hash, new Slot<>(value));
+        return value;
+    }
+    
+    /**
+     * Drop one reference, releasing the value when it was the last
+     *
+     * @return true if the value was released
+     */
+    public boolean release(long hash) {
+        Slot<V> slot = slots.get(hash);
+        if (slot == null || --slot.refs > 0) {
+            return false;
+        }
+        
+        slots.remove(hash);
+        onRelease.accept(slot.value);
+        return true;
+    }
+    
+    /**
+     * Release a value regardless of how many references it has
+     */
+    public void remove(long hash) {
+        Slot<V> slot = slots.remove(hash);
+        if (slot != null) {
+            onRelease.accept(slot.value);
+        }
+    }
+    
+    /**
+     * Release every value
+     */
+    public void clear() {
+        for (Slot<V> slot : slots.values()) {
+            onRelease.accept(slot.value);
+        }
+        slots.clear();
+    }
+    
+    /**
+     * Get the number of references to a hash, 0 if it isn't stored
+     */
+    public int refCount(long hash) {
+        Slot<V> slot = slots.get(hash);
+        return slot != null ? slot.refs : 0;
+    }
+    
+    /**
+     * Get the number of distinct values
+     */
+    public int size() {
+        return slots.size();
+    }
+    
+    private static class Slot<V> {
+        final V value;
+        int refs = 1;
+        
+        Slot(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.yourname.dynamictexture.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Access-ordered map that drops its least recently used entry past {@code maxSize}
+ */
+public class LRUCache<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+    
+    private final int maxSize;
+    
+    public LRUCache(int maxSize) {
+        super(16, 0.75f, true); // Access order
+        this.maxSize = maxSize;
+    }
+    
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+    
+    public int maxSize() {
+        return maxSize;
+    }
+}
@@ -0,0 +1,289 @@
+package com.yourname.dynamictexture.core.cache;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * ARGB thumbnails in one memory-mapped file, keyed by source content hash and size.
+ * <p>
+ * Records are appended after a small header and indexed in memory on open. Each record carries
+ * a CRC of its pixels, checked on every lookup, so a torn or stale record reads as a miss. When
+ * an append doesn't fit, the least recently used records are dropped and the survivors are
+ * packed to the front of the file. Only one process can hold the file at a time.
+ */
+public class ThumbnailStore implements Closeable {
+    private static final int FILE_MAGIC = 0x44545443; // "DTTC"
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER = 32;
+    private static final int RECORD_MAGIC = 0x54484D42; // "THMB"
+    private static final int RECORD_HEADER = 32;
+    // Compaction keeps at most this share of the capacity, so it doesn't rerun on every append
+    private static final float COMPACT_TO = 0.75f;
+    // A single mapping is limited to an int-sized buffer
+    private static final long MAX_CAPACITY = Integer.MAX_VALUE;
+    private static final long MIN_CAPACITY = 64 * 1024;
+    
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private int end;
+    
+    private ThumbnailStore(FileChannel channel, FileLock lock, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+    
+    /**
+     * Open or create the store, mapping {@code capacityBytes} of the file, clamped to what one mapping can hold.
+     * A file written by another version or with a damaged header is started over.
+     *
+     * @throws IOException if the file can't be mapped or another process holds it
+     */
+    public static ThumbnailStore open(Path file, long capacityBytes) throws IOException {
+        long capacity = Math.max(MIN_CAPACITY, Math.min(MAX_CAPACITY, capacityBytes));
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new IOException("Thumbnail cache is in use by another process: " + file);
+            }
+            
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            
+            ThumbnailStore store = new ThumbnailStore(channel, lock, buffer);
+            store.index();
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Copy the thumbnail for this content and size into {@code dst}.
+     *
+     * @return false if there is no valid record
+     */
+    public synchronized boolean get(long hash, int width, int height, int[] dst) {
+        Key key = new Key(hash, width, height);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return false;
+        }
+        
+        // The index is rebuilt from the file, so check the record still says what it holds
+        int pixels = entry.offset + RECORD_HEADER;
+        int length = width * height * Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(pixels, length));
+        if (buffer.getInt(entry.offset) != RECORD_MAGIC
+            || buffer.getInt(entry.offset + 4) != width || buffer.getInt(entry.offset + 8) != height
+            || buffer.getLong(entry.offset + 16) != hash
+            || (int) crc.getValue() != buffer.getInt(entry.offset + 12)) {
+            entries.remove(key);
+            return false;
+        }
+        
+        buffer.slice(pixels, length).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(dst, 0, width * height);
+        entry.lastUsed = System.currentTimeMillis();
+        buffer.putLong(entry.offset + 24, entry.lastUsed);
+        return true;
+    }
+    
+    /**
+     * Store a thumbnail, replacing any previous one for the same content and size.
+     * Thumbnails too large for the file are ignored.
+     */
+    public synchronized void put(long hash, int width, int height, int[] pixels) {
+        long size = RECORD_HEADER + (long) width * height * Integer.BYTES;
+        if (width <= 0 || height <= 0 || size > (capacity - FILE_HEADER) * COMPACT_TO) {
+            return;
+        }
+        
+        int length = (int) size;
+        Key key = new Key(hash, width, height);
+        entries.remove(key);
+        
+        if (end + length > capacity) {
+            compact((int) ((capacity - FILE_HEADER) * COMPACT_TO) - length);
+        }
+        
+        int offset = end;
+        buffer.slice(offset + RECORD_HEADER, length - RECORD_HEADER)
+            .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().put(pixels, 0, width * height);
+        
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + RECORD_HEADER, length - RECORD_HEADER));
+        
+        Entry entry = new Entry(key, offset, length, System.currentTimeMillis());
+        buffer.putInt(offset + 4, width);
+        buffer.putInt(offset + 8, height);
+        buffer.putInt(offset + 12, (int) crc.getValue());
+        buffer.putLong(offset + 16, hash);
+        buffer.putLong(offset + 24, entry.lastUsed);
+        buffer.putInt(offset, RECORD_MAGIC);
+        
+        // Publish the record only once it is complete
+        end = offset + length;
+        buffer.putInt(8, end);
+        entries.put(key, entry);
+    }
+    
+    /**
+     * Number of indexed thumbnails
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Bytes of the file in use, including dropped records not yet compacted away
+     */
+    public synchronized int usedBytes() {
+        return end;
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        lock.release();
+        channel.close();
+    }
+    
+    /**
+     * Read the header and index every well-formed record; anything after the first bad record is dropped
+     */
+    private void index() {
+        end = buffer.getInt(8);
+        if (buffer.getInt(0) != FILE_MAGIC || buffer.getInt(4) != VERSION || end < FILE_HEADER || end > capacity) {
+            buffer.putInt(0, FILE_MAGIC);
+            buffer.putInt(4, VERSION);
+            end = FILE_HEADER;
+            buffer.putInt(8, end);
+            return;
+        }
+        
+        int offset = FILE_HEADER;
+        while (offset + RECORD_HEADER <= end && buffer.getInt(offset) == RECORD_MAGIC) {
+            int width = buffer.getInt(offset + 4);
+            int height = buffer.getInt(offset + 8);
+            if (width <= 0 || height <= 0 || (long) width * height * Integer.BYTES > end - offset - RECORD_HEADER) {
+                break;
+            }
+            
+            int length = RECORD_HEADER + width * height * Integer.BYTES;
+            long hash = buffer.getLong(offset + 16);
+            // A later record for the same key supersedes an earlier one
+            Key key = new Key(hash, width, height);
+            entries.put(key, new Entry(key, offset, length, buffer.getLong(offset + 24)));
+            offset += length;
+        }
+        
+        if (offset != end) {
+            end = offset;
+            buffer.putInt(8, end);
+        }
+    }
+    
+    /**
+     * Keep the most recently used records totalling at most {@code budget} bytes, packed from the start
+     */
+    private void compact(int budget) {
+        List<Entry> byRecency = new ArrayList<>(entries.values());
+        byRecency.sort(Comparator.comparingLong((Entry entry) -> entry.lastUsed).reversed());
+        
+        List<Entry> kept = new ArrayList<>();
+        int total = 0;
+        for (Entry entry : byRecency) {
+            if (total + entry.length > budget) {
+                break;
+            }
+            kept.add(entry);
+            total += entry.length;
+        }
+        
+        // Moving records in file order only ever copies toward the front
+        kept.sort(Comparator.comparingInt(entry -> entry.offset));
+        entries.clear();
+        
+        byte[] copy = new byte[0];
+        int offset = FILE_HEADER;
+        for (Entry entry : kept) {
+            if (entry.offset != offset) {
+                if (copy.length < entry.length) {
+                    copy = new byte[entry.length];
+                }
+                buffer.get(entry.offset, copy, 0, entry.length);
+                buffer.put(offset, copy, 0, entry.length);
+                entry.offset = offset;
+            }
+            entries.put(entry.key, entry);
+            offset += entry.length;
+        }
+        
+        end = offset;
+        buffer.putInt(8, end);
+    }
+    
+    /**
+     * Full content hash and size of a thumbnail, so distinct thumbnails never share an index slot
+     */
+    private static class Key {
+        final long hash;
+        final int width;
+        final int height;
+        
+        Key(long hash, int width, int height) {
+            this.hash = hash;
+            this.width = width;
+            this.height = height;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return hash == other.hash && width == other.width && height == other.height;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hash) * 31 * 31 + width * 31 + height;
+        }
+    }
+    
+    private static class Entry {
+        final Key key;
+        final int length;
+        int offset;
+        long lastUsed;
+        
+        Entry(Key key, int offset, int length, long lastUsed) {
+            this.key = key;
+            this.offset = offset;
+            this.length = length;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.yourname.dynamictexture.core.hash;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cheap change detection for resource packs on disk.
+ * An archive is fingerprinted by its size and modification time. A folder is fingerprinted by
+ * the relative path, size and modification time of every file in it, so adding, removing,
+ * renaming or saving any file changes the result without reading file contents.
+ * <p>
+ * A file saved twice within one modification time tick keeps its size and time, so files
+ * modified within {@link #RACY_WINDOW_MILLIS} of fingerprinting also contribute a
+ * {@link ContentHash} of their bytes. Once such a file settles, its entry drops the hash,
+ * which costs at most one spurious change. Edits made by tools that restore the old
+ * modification time and keep the size are still not seen.
+ */
+public final class PackFingerprint {
+    // Coarsest common modification time granularity (FAT)
+    public static final long RACY_WINDOW_MILLIS = 2000;
+    
+    private PackFingerprint() {
+    }
+    
+    /**
+     * Fingerprint of a pack archive or folder
+     *
+     * @throws IOException if the path can't be read
+     */
+    public static long of(Path pack) throws IOException {
+        return of(pack, System.currentTimeMillis());
+    }
+    
+    /**
+     * Fingerprint of a pack archive or folder, taken at {@code nowMillis}
+     *
+     * @throws IOException if the path can't be read
+     */
+    public static long of(Path pack, long nowMillis) throws IOException {
+        long racyAfter = nowMillis - RACY_WINDOW_MILLIS;
+        BasicFileAttributes attributes = Files.readAttributes(pack, BasicFileAttributes.class);
+        if (!attributes.isDirectory()) {
+            long modified = attributes.lastModifiedTime().toMillis();
+            long hash = mix(mix(0, attributes.size()), modified);
+            return modified >= racyAfter ? mix(hash, ContentHash.hash64(Files.readAllBytes(pack))) : hash;
+        }
+        
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> files = Files.walk(pack)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                BasicFileAttributes fileAttributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (fileAttributes.isRegularFile()) {
+                    long modified = fileAttributes.lastModifiedTime().toMillis();
+                    String line = pack.relativize(file).toString().replace('\\', '/')
+                        + '\n' + fileAttributes.size()
+                        + '\n' + modified;
+                    if (modified >= racyAfter) {
+                        line += '\n' + Long.toHexString(ContentHash.hash64(Files.readAllBytes(file)));
+                    }
+                    lines.add(line);
+                }
+            }
+        }
+        
+        // Walk order depends on the file system
+        lines.sort(null);
+        byte[] bytes = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return ContentHash.hash64(bytes);
+    }
+    
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * 0x9E3779B97F4A7C15L + 0x632BE59BD9B4E019L;
+    }
+}
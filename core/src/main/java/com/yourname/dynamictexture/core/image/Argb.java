@@ -0,0 +1,46 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * Channel helpers for packed 0xAARRGGBB pixels
+ */
+public final class Argb {
+    private Argb() {
+    }
+    
+    public static int alpha(int pixel) {
+        return pixel >>> 24;
+    }
+    
+    public static int red(int pixel) {
+        return (pixel >> 16) & 0xFF;
+    }
+    
+    public static int green(int pixel) {
+        return (pixel >> 8) & 0xFF;
+    }
+    
+    public static int blue(int pixel) {
+        return pixel & 0xFF;
+    }
+    
+    public static int pack(int alpha, int red, int green, int blue) {
+        return (alpha << 24) | (red << 16) | (green << 8) | blue;
+    }
+    
+    /**
+     * Convert between ARGB and ABGR; the swap is its own inverse
+     */
+    public static int swapRedBlue(int pixel) {
+        return (pixel & 0xFF00FF00) | ((pixel >> 16) & 0xFF) | ((pixel & 0xFF) << 16);
+    }
+    
+    /**
+     * Convert the first {@code count} pixels between ARGB and ABGR in place
+     */
+    public static void swapRedBlue(int[] pixels, int count) {
+        for (int i = 0; i < count; i++) {
+            int pixel = pixels[i];
+            pixels[i] = (pixel & 0xFF00FF00) | ((pixel >> 16) & 0xFF) | ((pixel & 0xFF) << 16);
+        }
+    }
+}
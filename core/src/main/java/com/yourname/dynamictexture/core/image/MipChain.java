@@ -0,0 +1,99 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * An image and its successively halved levels, down to 1x1.
+ * Any smaller size is produced by area-resizing the nearest level at least that large,
+ * which never reads more than about four source pixels per output pixel.
+ */
+public final class MipChain {
+    private final int[][] levels;
+    private final int[] widths;
+    private final int[] heights;
+    
+    private MipChain(int[][] levels, int[] widths, int[] heights) {
+        this.levels = levels;
+        this.widths = widths;
+        this.heights = heights;
+    }
+    
+    /**
+     * Build every level of a row-major ARGB image. The chain keeps {@code pixels} as level 0,
+     * so the caller must not modify it afterwards.
+     */
+    public static MipChain generate(int[] pixels, int width, int height) {
+        int count = 1;
+        for (int w = width, h = height; w > 1 || h > 1; w = Math.max(1, w >> 1), h = Math.max(1, h >> 1)) {
+            count++;
+        }
+        
+        int[][] levels = new int[count][];
+        int[] widths = new int[count];
+        int[] heights = new int[count];
+        levels[0] = pixels;
+        widths[0] = width;
+        heights[0] = height;
+        
+        for (int i = 1; i < count; i++) {
+            widths[i] = Math.max(1, widths[i - 1] >> 1);
+            heights[i] = Math.max(1, heights[i - 1] >> 1);
+            levels[i] = new int[widths[i] * heights[i]];
+            Resampler.halve(levels[i - 1], widths[i - 1], heights[i - 1], levels[i]);
+        }
+        
+        return new MipChain(levels, widths, heights);
+    }
+    
+    public int levelCount() {
+        return levels.length;
+    }
+    
+    public int getWidth(int level) {
+        return widths[level];
+    }
+    
+    public int getHeight(int level) {
+        return heights[level];
+    }
+    
+    /**
+     * Pixels of a level; shared, not to be modified
+     */
+    public int[] getPixels(int level) {
+        return levels[level];
+    }
+    
+    /**
+     * Pixels held across all levels
+     */
+    public long pixelCount() {
+        long total = 0;
+        for (int[] level : levels) {
+            total += level.length;
+        }
+        return total;
+    }
+    
+    /**
+     * Smallest level still at least {@code width x height}, or 0 when upscaling
+     */
+    public int levelFor(int width, int height) {
+        int level = 0;
+        while (level + 1 < levels.length && widths[level + 1] >= width && heights[level + 1] >= height) {
+            level++;
+        }
+        return level;
+    }
+    
+    /**
+     * Write the image at {@code width x height} into {@code dst}
+     */
+    public void resize(int[] dst, int width, int height) {
+        int level = levelFor(width, height);
+        
+        if (widths[level] == width && heights[level] == height) {
+            System.arraycopy(levels[level], 0, dst, 0, width * height);
+        } else {
+            Resampler.resizeArea(levels[level], widths[level], heights[level], dst, width, height);
+        }
+    }
+}
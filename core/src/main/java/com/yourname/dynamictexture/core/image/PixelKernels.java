@@ -0,0 +1,176 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * Pixel transforms on row-major ARGB arrays.
+ * Images are plain {@code int[]} of {@code width * height} pixels with no padding;
+ * destinations are written in full and may be reused between calls.
+ * <p>
+ * Tint, grayscale, blend and average color use the Vector API when the JVM runs with
+ * {@code --add-modules jdk.incubator.vector}, and a scalar loop otherwise. Both give
+ * identical output. {@code -Ddynamictexture.disableSimd=true} forces the scalar path.
+ * <p>
+ * Resize and blend split images of at least {@link #setParallelThreshold parallel threshold}
+ * pixels into row bands on the common fork/join pool. Smaller images run inline.
+ */
+public final class PixelKernels {
+    // BT.601 luma weights in 16-bit fixed point, summing to 1 << LUMA_SHIFT
+    static final int LUMA_SHIFT = 16;
+    static final int LUMA_ROUND = 1 << (LUMA_SHIFT - 1);
+    static final int LUMA_RED = 19595;
+    static final int LUMA_GREEN = 38470;
+    static final int LUMA_BLUE = 7471;
+    
+    // Blend weights in 8-bit fixed point
+    static final int BLEND_SHIFT = 8;
+    static final int BLEND_ONE = 1 << BLEND_SHIFT;
+    static final int BLEND_ROUND = 1 << (BLEND_SHIFT - 1);
+    
+    private static final boolean VECTORIZED = detectVectorSupport();
+    
+    private static volatile int parallelThreshold = 512 * 512;
+    
+    private PixelKernels() {
+    }
+    
+    /**
+     * Whether the Vector API path is in use
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+    
+    /**
+     * Lanes per vector on the active path, 1 when scalar
+     */
+    public static int laneCount() {
+        return VECTORIZED ? VectorKernels.laneCount() : 1;
+    }
+    
+    /**
+     * Set the destination size in pixels from which resize and blend run in parallel
+     */
+    public static void setParallelThreshold(int pixels) {
+        parallelThreshold = Math.max(1, pixels);
+    }
+    
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+    
+    /**
+     * Multiply each color channel by the matching channel of {@code color} (0xRRGGBB)
+     * as a fraction of 255, keeping alpha
+     */
+    public static void tint(int[] src, int[] dst, int pixelCount, int color) {
+        int r = (color >> 16) & 0xFF;
+        int g = (color >> 8) & 0xFF;
+        int b = color & 0xFF;
+        
+        if (VECTORIZED) {
+            VectorKernels.tint(src, dst, pixelCount, r, g, b);
+        } else {
+            ScalarKernels.tint(src, dst, 0, pixelCount, r, g, b);
+        }
+    }
+    
+    /**
+     * Replace color with its luma (BT.601 weights), keeping alpha
+     */
+    public static void grayscale(int[] src, int[] dst, int pixelCount) {
+        if (VECTORIZED) {
+            VectorKernels.grayscale(src, dst, pixelCount);
+        } else {
+            ScalarKernels.grayscale(src, dst, 0, pixelCount);
+        }
+    }
+    
+    /**
+     * Nearest-neighbor resample of a {@code srcWidth x srcHeight} image
+     */
+    public static void resizeNearest(int[] src, int srcWidth, int srcHeight, int[] dst, int dstWidth, int dstHeight) {
+        // Gathers from scattered source columns, which vectors don't speed up
+        if ((long) dstWidth * dstHeight < parallelThreshold) {
+            ScalarKernels.resizeNearest(src, srcWidth, srcHeight, dst, dstWidth, dstHeight, 0, dstHeight);
+            return;
+        }
+        
+        RowTiles.invoke(dstHeight, dstWidth, (fromRow, toRow) ->
+            ScalarKernels.resizeNearest(src, srcWidth, srcHeight, dst, dstWidth, dstHeight, fromRow, toRow)
+        );
+    }
+    
+    /**
+     * Linear blend of the overlapping {@code width x height} area of two images.
+     * {@code alpha} is the weight of {@code b}, quantized to 1/256 steps.
+     */
+    public static void blend(int[] a, int aWidth, int[] b, int bWidth, int[] dst, int width, int height, float alpha) {
+        int weight = blendWeight(alpha);
+        
+        if ((long) width * height < parallelThreshold) {
+            blendRows(a, aWidth, b, bWidth, dst, width, weight, 0, height);
+            return;
+        }
+        
+        RowTiles.invoke(height, width, (fromRow, toRow) ->
+            blendRows(a, aWidth, b, bWidth, dst, width, weight, fromRow, toRow)
+        );
+    }
+    
+    private static void blendRows(int[] a, int aWidth, int[] b, int bWidth, int[] dst, int width, int weight,
+                                  int fromRow, int toRow) {
+        for (int y = fromRow; y < toRow; y++) {
+            if (VECTORIZED) {
+                VectorKernels.blendRow(a, y * aWidth, b, y * bWidth, dst, y * width, width, weight);
+            } else {
+                ScalarKernels.blendRow(a, y * aWidth, b, y * bWidth, dst, y * width, 0, width, weight);
+            }
+        }
+    }
+    
+    /**
+     * Fixed-point weight for a blend factor, clamped to [0, 1]
+     */
+    static int blendWeight(float alpha) {
+        return Math.max(0, Math.min(BLEND_ONE, Math.round(alpha * BLEND_ONE)));
+    }
+    
+    /**
+     * Average of all non-transparent pixels, or 0 if every pixel is transparent
+     */
+    public static int averageColor(int[] src, int pixelCount) {
+        long[] totals = new long[5];
+        
+        if (VECTORIZED) {
+            VectorKernels.accumulate(src, pixelCount, totals);
+        } else {
+            ScalarKernels.accumulate(src, 0, pixelCount, totals);
+        }
+        
+        long counted = totals[4];
+        if (counted == 0) {
+            return 0;
+        }
+        
+        return Argb.pack(
+            (int) (totals[0] / counted),
+            (int) (totals[1] / counted),
+            (int) (totals[2] / counted),
+            (int) (totals[3] / counted)
+        );
+    }
+    
+    private static boolean detectVectorSupport() {
+        if (Boolean.getBoolean("dynamictexture.disableSimd")) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        
+        try {
+            return VectorKernels.isUsable();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.yourname.dynamictexture.core.image;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lazily composed chain of image operations, rendered in one pass into a single destination.
+ * <p>
+ * Geometric stages (resize, the crop implied by blend) only remap coordinates, so every output
+ * pixel is traced back to one source pixel and the color stages run on it in order. The result
+ * matches applying {@link PixelKernels} step by step, without the intermediate images.
+ */
+public class PixelPipeline {
+    private final int[] source;
+    private final int sourceWidth;
+    private final List<Stage> stages = new ArrayList<>();
+    private int width;
+    private int height;
+    
+    private PixelPipeline(int[] source, int width, int height) {
+        this.source = source;
+        this.sourceWidth = width;
+        this.width = width;
+        this.height = height;
+    }
+    
+    /**
+     * Start a pipeline over a row-major ARGB image. The array is read at render time.
+     */
+    public static PixelPipeline from(int[] pixels, int width, int height) {
+        return new PixelPipeline(pixels, width, height);
+    }
+    
+    /**
+     * Nearest-neighbor resample to the given size
+     */
+    public PixelPipeline resize(int newWidth, int newHeight) {
+        return add(new Stage(Stage.RESIZE, newWidth, newHeight));
+    }
+    
+    /**
+     * Multiply color channels by {@code color} (0xRRGGBB), see {@link PixelKernels#tint}
+     */
+    public PixelPipeline tint(int color) {
+        Stage stage = new Stage(Stage.TINT, width, height);
+        stage.color = color;
+        return add(stage);
+    }
+    
+    /**
+     * Replace color with its luma, see {@link PixelKernels#grayscale}
+     */
+    public PixelPipeline grayscale() {
+        return add(new Stage(Stage.GRAYSCALE, width, height));
+    }
+    
+    /**
+     * Blend with an overlay, cropping to the overlapping area, see {@link PixelKernels#blend}
+     */
+    public PixelPipeline blend(int[] overlay, int overlayWidth, int overlayHeight, float alpha) {
+        Stage stage = new Stage(Stage.BLEND, Math.min(width, overlayWidth), Math.min(height, overlayHeight));
+        stage.overlay = overlay;
+        stage.overlayWidth = overlayWidth;
+        stage.alpha = alpha;
+        return add(stage);
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    /**
+     * Render into {@code dst}, which must hold at least {@code getWidth() * getHeight()} pixels
+     */
+    public void render(int[] dst) {
+        if (width == 0 || height == 0) {
+            return;
+        }
+        
+        int[][] columns = columnMaps();
+        
+        if ((long) width * height < PixelKernels.getParallelThreshold()) {
+            renderRows(dst, columns, 0, height);
+        } else {
+            RowTiles.invoke(height, width, (fromRow, toRow) -> renderRows(dst, columns, fromRow, toRow));
+        }
+    }
+    
+    private PixelPipeline add(Stage stage) {
+        stage.inputWidth = width;
+        stage.inputHeight = height;
+        stages.add(stage);
+        width = stage.width;
+        height = stage.height;
+        return this;
+    }
+    
+    /**
+     * For each level (0 = source, n = output), the column at that level of each output column.
+     * Levels joined by a non-resizing stage share the same array.
+     */
+    private int[][] columnMaps() {
+        int levels = stages.size();
+        int[][] columns = new int[levels + 1][];
+        
+        int[] identity = new int[width];
+        for (int x = 0; x < width; x++) {
+            identity[x] = x;
+        }
+        columns[levels] = identity;
+        
+        for (int k = levels - 1; k >= 0; k--) {
+            Stage stage = stages.get(k);
+            int[] next = columns[k + 1];
+            
+            if (stage.kind != Stage.RESIZE) {
+                columns[k] = next;
+                continue;
+            }
+            
+            float xRatio = (float) stage.inputWidth / stage.width;
+            int[] mapped = new int[width];
+            for (int x = 0; x < width; x++) {
+                mapped[x] = (int) (next[x] * xRatio);
+            }
+            columns[k] = mapped;
+        }
+        
+        return columns;
+    }
+    
+    private void renderRows(int[] dst, int[][] columns, int fromRow, int toRow) {
+        int levels = stages.size();
+        int[] rows = new int[levels + 1];
+        int[] line = new int[width];
+        int[] overlayLine = null;
+        int[] sourceColumns = columns[0];
+        boolean contiguous = sourceColumns == columns[levels];
+        
+        for (int y = fromRow; y < toRow; y++) {
+            // Trace this output row back to each level
+            rows[levels] = y;
+            for (int k = levels - 1; k >= 0; k--) {
+                Stage stage = stages.get(k);
+                rows[k] = stage.kind == Stage.RESIZE
+                    ? (int) (rows[k + 1] * ((float) stage.inputHeight / stage.height))
+                    : rows[k + 1];
+            }
+            
+            int sourceRow = rows[0] * sourceWidth;
+            if (contiguous) {
+                System.arraycopy(source, sourceRow, line, 0, width);
+            } else {
+                for (int x = 0; x < width; x++) {
+                    line[x] = source[sourceRow + sourceColumns[x]];
+                }
+            }
+            
+            for (int k = 0; k < levels; k++) {
+                Stage stage = stages.get(k);
+                switch (stage.kind) {
+                    case Stage.TINT -> PixelKernels.tint(line, line, width, stage.color);
+                    case Stage.GRAYSCALE -> PixelKernels.grayscale(line, line, width);
+                    case Stage.BLEND -> {
+                        if (overlayLine == null) {
+                            overlayLine = new int[width];
+                        }
+                        int overlayRow = rows[k] * stage.overlayWidth;
+                        int[] stageColumns = columns[k];
+                        for (int x = 0; x < width; x++) {
+                            overlayLine[x] = stage.overlay[overlayRow + stageColumns[x]];
+                        }
+                        PixelKernels.blend(line, width, overlayLine, width, line, width, 1, stage.alpha);
+                    }
+                    default -> {
+                        // Resize only moves coordinates
+                    }
+                }
+            }
+            
+            System.arraycopy(line, 0, dst, y * width, width);
+        }
+    }
+    
+    private static class Stage {
+        static final int RESIZE = 0;
+        static final int TINT = 1;
+        static final int GRAYSCALE = 2;
+        static final int BLEND = 3;
+        
+        final int kind;
+        final int width;
+        final int height;
+        int inputWidth;
+        int inputHeight;
+        int color;
+        int[] overlay;
+        int overlayWidth;
+        float alpha;
+        
+        Stage(int kind, int width, int height) {
+            this.kind = kind;
+            this.width = width;
+            this.height = height;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.yourname.dynamictexture.core.image;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+/**
+ * Image header of a PNG file, read from the signature and IHDR chunk alone (33 bytes)
+ * without decoding any pixel data
+ */
+public class PngHeader {
+    public static final int COLOR_GRAYSCALE = 0;
+    public static final int COLOR_RGB = 2;
+    public static final int COLOR_PALETTE = 3;
+    public static final int COLOR_GRAYSCALE_ALPHA = 4;
+    public static final int COLOR_RGBA = 6;
+    
+    // Signature, then IHDR length, type, 13 data bytes and CRC
+    public static final int HEADER_BYTES = 8 + 8 + 13 + 4;
+    
+    private static final long SIGNATURE = 0x89504E470D0A1A0AL;
+    private static final int IHDR = 0x49484452;
+    
+    public final int width;
+    public final int height;
+    public final int bitDepth;
+    public final int colorType;
+    public final boolean interlaced;
+    
+    private PngHeader(int width, int height, int bitDepth, int colorType, boolean interlaced) {
+        this.width = width;
+        this.height = height;
+        this.bitDepth = bitDepth;
+        this.colorType = colorType;
+        this.interlaced = interlaced;
+    }
+    
+    /**
+     * Read the header from the start of a PNG stream, consuming {@link #HEADER_BYTES} bytes
+     *
+     * @throws IOException if the stream ends early or is not a well-formed PNG
+     */
+    public static PngHeader read(InputStream stream) throws IOException {
+        byte[] bytes = stream.readNBytes(HEADER_BYTES);
+        if (bytes.length < HEADER_BYTES) {
+            throw new EOFException("PNG ends after " + bytes.length + " bytes");
+        }
+        return parse(ByteBuffer.wrap(bytes));
+    }
+    
+    /**
+     * Read the header from the first {@link #HEADER_BYTES} bytes of a buffer, without moving its position
+     */
+    public static PngHeader read(ByteBuffer data) throws IOException {
+        if (data.remaining() < HEADER_BYTES) {
+            throw new EOFException("PNG ends after " + data.remaining() + " bytes");
+        }
+        return parse(data.slice(data.position(), HEADER_BYTES));
+    }
+    
+    private static PngHeader parse(ByteBuffer header) throws IOException {
+        if (header.getLong(0) != SIGNATURE) {
+            throw new IOException("Not a PNG file");
+        }
+        if (header.getInt(8) != 13 || header.getInt(12) != IHDR) {
+            throw new IOException("PNG does not start with an IHDR chunk");
+        }
+        
+        CRC32 crc = new CRC32();
+        crc.update(header.slice(12, 4 + 13));
+        if ((int) crc.getValue() != header.getInt(29)) {
+            throw new IOException("PNG header checksum mismatch");
+        }
+        
+        int width = header.getInt(16);
+        int height = header.getInt(20);
+        int bitDepth = header.get(24) & 0xFF;
+        int colorType = header.get(25) & 0xFF;
+        int interlace = header.get(28) & 0xFF;
+        
+        if (width <= 0 || height <= 0) {
+            throw new IOException("Invalid PNG size " + width + "x" + height);
+        }
+        if (!isValidDepth(colorType, bitDepth)) {
+            throw new IOException("Invalid PNG bit depth " + bitDepth + " for color type " + colorType);
+        }
+        if (header.get(26) != 0 || header.get(27) != 0 || interlace > 1) {
+            throw new IOException("Unsupported PNG compression, filter or interlace method");
+        }
+        
+        return new PngHeader(width, height, bitDepth, colorType, interlace == 1);
+    }
+    
+    private static boolean isValidDepth(int colorType, int bitDepth) {
+        return switch (colorType) {
+            case COLOR_GRAYSCALE -> bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8 || bitDepth == 16;
+            case COLOR_PALETTE -> bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8;
+            case COLOR_RGB, COLOR_GRAYSCALE_ALPHA, COLOR_RGBA -> bitDepth == 8 || bitDepth == 16;
+            default -> false;
+        };
+    }
+    
+    /**
+     * Whether pixels carry an alpha channel; palette images may still have a tRNS chunk
+     */
+    public boolean hasAlpha() {
+        return colorType == COLOR_GRAYSCALE_ALPHA || colorType == COLOR_RGBA;
+    }
+    
+    @Override
+    public String toString() {
+        return width + "x" + height + ", " + bitDepth + "-bit, color type " + colorType + (interlaced ? ", interlaced" : "");
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * Precomputed source taps for resampling one axis.
+ * Output index {@code i} reads {@code count[i]} consecutive source indices from {@code first[i]},
+ * with weights at {@code weights[offset[i]..]} in {@link #WEIGHT_SHIFT}-bit fixed point summing to
+ * {@link #WEIGHT_ONE}.
+ */
+final class ResampleTable {
+    static final int WEIGHT_SHIFT = 14;
+    static final int WEIGHT_ONE = 1 << WEIGHT_SHIFT;
+    
+    final int[] first;
+    final int[] count;
+    final int[] offset;
+    final int[] weights;
+    
+    private ResampleTable(int[] first, int[] count, int[] offset, int[] weights) {
+        this.first = first;
+        this.count = count;
+        this.offset = offset;
+        this.weights = weights;
+    }
+    
+    /**
+     * Area coverage when shrinking; a single nearest tap when keeping or growing the size,
+     * so upscaled pixel art stays sharp
+     */
+    static ResampleTable area(int srcSize, int dstSize) {
+        int[] first = new int[dstSize];
+        int[] count = new int[dstSize];
+        int[] offset = new int[dstSize];
+        
+        if (dstSize >= srcSize) {
+            float ratio = (float) srcSize / dstSize;
+            int[] weights = new int[dstSize];
+            for (int i = 0; i < dstSize; i++) {
+                first[i] = (int) (i * ratio);
+                count[i] = 1;
+                offset[i] = i;
+                weights[i] = WEIGHT_ONE;
+            }
+            return new ResampleTable(first, count, offset, weights);
+        }
+        
+        // Each output covers [i * scale, (i + 1) * scale) in source units; at most ceil(scale) + 1 taps
+        double scale = (double) srcSize / dstSize;
+        int maxTaps = (int) Math.ceil(scale) + 1;
+        int[] weights = new int[dstSize * maxTaps];
+        int used = 0;
+        
+        for (int i = 0; i < dstSize; i++) {
+            double left = i * scale;
+            double right = Math.min(srcSize, (i + 1) * scale);
+            int start = (int) left;
+            int end = Math.max(start + 1, Math.min(srcSize, (int) Math.ceil(right - 1e-9)));
+            
+            first[i] = start;
+            count[i] = end - start;
+            offset[i] = used;
+            
+            // Rounded cumulative coverage, so weights are never negative and sum to exactly one
+            int previous = 0;
+            for (int s = start; s < end; s++) {
+                int cumulative = s == end - 1
+                    ? WEIGHT_ONE
+                    : (int) Math.round((Math.min(right, s + 1) - left) / scale * WEIGHT_ONE);
+                weights[used++] = cumulative - previous;
+                previous = cumulative;
+            }
+        }
+        
+        return new ResampleTable(first, count, offset, weights);
+    }
+}
@@ -0,0 +1,155 @@
+package com.yourname.dynamictexture.core.image;
+
+import java.util.Arrays;
+
+/**
+ * Filtered resizing for row-major ARGB arrays.
+ * <p>
+ * Averages are alpha weighted, so fully transparent pixels don't pull colors toward black at
+ * sprite edges. Area resizing precomputes the source taps and weights of each axis once per call
+ * and applies them separably: source rows are merged into one accumulator row per output row,
+ * which is then reduced across columns.
+ */
+public final class Resampler {
+    private Resampler() {
+    }
+    
+    /**
+     * Average each output pixel over the source area it covers.
+     * Axes that keep or grow their size use nearest-neighbor sampling instead.
+     */
+    public static void resizeArea(int[] src, int srcWidth, int srcHeight, int[] dst, int dstWidth, int dstHeight) {
+        if (dstWidth >= srcWidth && dstHeight >= srcHeight) {
+            PixelKernels.resizeNearest(src, srcWidth, srcHeight, dst, dstWidth, dstHeight);
+            return;
+        }
+        
+        ResampleTable columns = ResampleTable.area(srcWidth, dstWidth);
+        ResampleTable rows = ResampleTable.area(srcHeight, dstHeight);
+        
+        // Work per output row is roughly the source rows it merges
+        long work = (long) srcWidth * srcHeight;
+        if (work < PixelKernels.getParallelThreshold()) {
+            areaRows(src, srcWidth, dst, dstWidth, columns, rows, 0, dstHeight);
+            return;
+        }
+        
+        int rowPixels = (int) Math.min(Integer.MAX_VALUE, work / dstHeight);
+        RowTiles.invoke(dstHeight, rowPixels, (fromRow, toRow) ->
+            areaRows(src, srcWidth, dst, dstWidth, columns, rows, fromRow, toRow)
+        );
+    }
+    
+    /**
+     * 2x2 box filter down to {@code max(1, width / 2) x max(1, height / 2)}.
+     * Same result as {@link #resizeArea} for even sizes, without the tables.
+     */
+    public static void halve(int[] src, int width, int height, int[] dst) {
+        int dstWidth = Math.max(1, width >> 1);
+        int dstHeight = Math.max(1, height >> 1);
+        
+        if ((width > 1 && (width & 1) != 0) || (height > 1 && (height & 1) != 0)) {
+            resizeArea(src, width, height, dst, dstWidth, dstHeight);
+            return;
+        }
+        
+        // A 1-pixel axis is sampled twice, which averages to itself
+        int right = width > 1 ? 1 : 0;
+        int down = height > 1 ? width : 0;
+        
+        for (int y = 0; y < dstHeight; y++) {
+            int srcRow = (height > 1 ? y * 2 : y) * width;
+            int dstRow = y * dstWidth;
+            for (int x = 0; x < dstWidth; x++) {
+                int i = srcRow + (width > 1 ? x * 2 : x);
+                dst[dstRow + x] = average4(src[i], src[i + right], src[i + down], src[i + down + right]);
+            }
+        }
+    }
+    
+    private static void areaRows(int[] src, int srcWidth, int[] dst, int dstWidth,
+                                 ResampleTable columns, ResampleTable rows, int fromRow, int toRow) {
+        // Premultiplied channel sums of the merged source rows, scaled by WEIGHT_ONE
+        int[] sumA = new int[srcWidth];
+        int[] sumR = new int[srcWidth];
+        int[] sumG = new int[srcWidth];
+        int[] sumB = new int[srcWidth];
+        
+        for (int y = fromRow; y < toRow; y++) {
+            Arrays.fill(sumA, 0);
+            Arrays.fill(sumR, 0);
+            Arrays.fill(sumG, 0);
+            Arrays.fill(sumB, 0);
+            
+            int rowTaps = rows.count[y];
+            for (int t = 0; t < rowTaps; t++) {
+                int weight = rows.weights[rows.offset[y] + t];
+                int srcRow = (rows.first[y] + t) * srcWidth;
+                for (int x = 0; x < srcWidth; x++) {
+                    int pixel = src[srcRow + x];
+                    int alpha = Argb.alpha(pixel) * weight;
+                    sumA[x] += alpha;
+                    sumR[x] += Argb.red(pixel) * alpha;
+                    sumG[x] += Argb.green(pixel) * alpha;
+                    sumB[x] += Argb.blue(pixel) * alpha;
+                }
+            }
+            
+            int dstRow = y * dstWidth;
+            for (int x = 0; x < dstWidth; x++) {
+                long a = 0, r = 0, g = 0, b = 0;
+                int base = columns.offset[x];
+                int column = columns.first[x];
+                int columnTaps = columns.count[x];
+                for (int t = 0; t < columnTaps; t++) {
+                    long weight = columns.weights[base + t];
+                    a += sumA[column + t] * weight;
+                    r += sumR[column + t] * weight;
+                    g += sumG[column + t] * weight;
+                    b += sumB[column + t] * weight;
+                }
+                dst[dstRow + x] = unpremultiply(a, r, g, b, 2 * ResampleTable.WEIGHT_SHIFT);
+            }
+        }
+    }
+    
+    private static int average4(int p0, int p1, int p2, int p3) {
+        int a0 = Argb.alpha(p0), a1 = Argb.alpha(p1), a2 = Argb.alpha(p2), a3 = Argb.alpha(p3);
+        
+        // Equal alpha (usually fully opaque) cancels out of the weighted mean
+        if (a0 == a1 && a0 == a2 && a0 == a3 && a0 != 0) {
+            return Argb.pack(
+                a0,
+                (Argb.red(p0) + Argb.red(p1) + Argb.red(p2) + Argb.red(p3) + 2) >> 2,
+                (Argb.green(p0) + Argb.green(p1) + Argb.green(p2) + Argb.green(p3) + 2) >> 2,
+                (Argb.blue(p0) + Argb.blue(p1) + Argb.blue(p2) + Argb.blue(p3) + 2) >> 2
+            );
+        }
+        
+        return unpremultiply(
+            a0 + a1 + a2 + a3,
+            (long) Argb.red(p0) * a0 + Argb.red(p1) * a1 + Argb.red(p2) * a2 + Argb.red(p3) * a3,
+            (long) Argb.green(p0) * a0 + Argb.green(p1) * a1 + Argb.green(p2) * a2 + Argb.green(p3) * a3,
+            (long) Argb.blue(p0) * a0 + Argb.blue(p1) * a1 + Argb.blue(p2) * a2 + Argb.blue(p3) * a3,
+            2
+        );
+    }
+    
+    /**
+     * Pack alpha-weighted sums, where {@code a} is the alpha total scaled by {@code 1 << shift}
+     * and each color total is the same weights times alpha times the channel
+     */
+    private static int unpremultiply(long a, long r, long g, long b, int shift) {
+        if (a == 0) {
+            return 0;
+        }
+        
+        long half = a >> 1;
+        return Argb.pack(
+            (int) ((a + (1L << (shift - 1))) >> shift),
+            (int) ((r + half) / a),
+            (int) ((g + half) / a),
+            (int) ((b + half) / a)
+        );
+    }
+}
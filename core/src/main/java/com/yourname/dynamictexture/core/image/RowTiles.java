@@ -0,0 +1,61 @@
+package com.yourname.dynamictexture.core.image;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits an image into horizontal bands of rows and processes them on the common fork/join pool.
+ * Each band writes only its own destination rows, so the result matches a sequential pass.
+ */
+final class RowTiles {
+    // Bands stop splitting at about this many pixels
+    private static final int TILE_PIXELS = 64 * 1024;
+    
+    private RowTiles() {
+    }
+    
+    /**
+     * Body run for the half-open row range {@code [fromRow, toRow)}
+     */
+    interface RowRange {
+        void run(int fromRow, int toRow);
+    }
+    
+    /**
+     * Run {@code body} over {@code rows} rows of {@code rowPixels} pixels each, in parallel bands
+     */
+    static void invoke(int rows, int rowPixels, RowRange body) {
+        int rowsPerTile = Math.max(1, TILE_PIXELS / Math.max(1, rowPixels));
+        ForkJoinPool.commonPool().invoke(new Band(body, 0, rows, rowsPerTile));
+    }
+    
+    // Never serialized; RecursiveAction is Serializable only by inheritance
+    @SuppressWarnings("serial")
+    private static class Band extends RecursiveAction {
+        private final RowRange body;
+        private final int fromRow;
+        private final int toRow;
+        private final int rowsPerTile;
+        
+        Band(RowRange body, int fromRow, int toRow, int rowsPerTile) {
+            this.body = body;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+            this.rowsPerTile = rowsPerTile;
+        }
+        
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= rowsPerTile) {
+                body.run(fromRow, toRow);
+                return;
+            }
+            
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(
+                new Band(body, fromRow, middle, rowsPerTile),
+                new Band(body, middle, toRow, rowsPerTile)
+            );
+        }
+    }
+}
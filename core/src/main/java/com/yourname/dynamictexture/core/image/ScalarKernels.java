@@ -0,0 +1,102 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * Scalar implementation of {@link PixelKernels}.
+ * Also handles the tail elements the vector path leaves over, so both paths
+ * must produce identical pixels.
+ */
+final class ScalarKernels {
+    private ScalarKernels() {
+    }
+    
+    static void tint(int[] src, int[] dst, int from, int to, int r, int g, int b) {
+        for (int i = from; i < to; i++) {
+            int pixel = src[i];
+            dst[i] = Argb.pack(
+                Argb.alpha(pixel),
+                div255(Argb.red(pixel) * r),
+                div255(Argb.green(pixel) * g),
+                div255(Argb.blue(pixel) * b)
+            );
+        }
+    }
+    
+    static void grayscale(int[] src, int[] dst, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int pixel = src[i];
+            int gray = (PixelKernels.LUMA_RED * Argb.red(pixel)
+                + PixelKernels.LUMA_GREEN * Argb.green(pixel)
+                + PixelKernels.LUMA_BLUE * Argb.blue(pixel)
+                + PixelKernels.LUMA_ROUND) >> PixelKernels.LUMA_SHIFT;
+            dst[i] = Argb.pack(Argb.alpha(pixel), gray, gray, gray);
+        }
+    }
+    
+    static void resizeNearest(int[] src, int srcWidth, int srcHeight, int[] dst, int dstWidth, int dstHeight,
+                              int fromRow, int toRow) {
+        float xRatio = (float) srcWidth / dstWidth;
+        float yRatio = (float) srcHeight / dstHeight;
+        
+        for (int y = fromRow; y < toRow; y++) {
+            int srcRow = (int) (y * yRatio) * srcWidth;
+            int dstRow = y * dstWidth;
+            for (int x = 0; x < dstWidth; x++) {
+                dst[dstRow + x] = src[srcRow + (int) (x * xRatio)];
+            }
+        }
+    }
+    
+    static void blendRow(int[] a, int aOffset, int[] b, int bOffset, int[] dst, int dstOffset,
+                         int from, int to, int weight) {
+        int inverse = PixelKernels.BLEND_ONE - weight;
+        
+        for (int x = from; x < to; x++) {
+            int pixel1 = a[aOffset + x];
+            int pixel2 = b[bOffset + x];
+            dst[dstOffset + x] = Argb.pack(
+                mix(Argb.alpha(pixel1), Argb.alpha(pixel2), weight, inverse),
+                mix(Argb.red(pixel1), Argb.red(pixel2), weight, inverse),
+                mix(Argb.green(pixel1), Argb.green(pixel2), weight, inverse),
+                mix(Argb.blue(pixel1), Argb.blue(pixel2), weight, inverse)
+            );
+        }
+    }
+    
+    /**
+     * Add channel sums and the count of non-transparent pixels in
+     * {@code [from, to)} to {@code totals} (a, r, g, b, count)
+     */
+    static void accumulate(int[] src, int from, int to, long[] totals) {
+        long totalA = 0, totalR = 0, totalG = 0, totalB = 0;
+        int counted = 0;
+        
+        for (int i = from; i < to; i++) {
+            int pixel = src[i];
+            int alpha = Argb.alpha(pixel);
+            if (alpha > 0) {
+                totalA += alpha;
+                totalR += Argb.red(pixel);
+                totalG += Argb.green(pixel);
+                totalB += Argb.blue(pixel);
+                counted++;
+            }
+        }
+        
+        totals[0] += totalA;
+        totals[1] += totalR;
+        totals[2] += totalG;
+        totals[3] += totalB;
+        totals[4] += counted;
+    }
+    
+    /**
+     * Exact {@code x / 255} for {@code 0 <= x <= 255 * 255}, without a division
+     */
+    static int div255(int x) {
+        return (x + 1 + (x >> 8)) >> 8;
+    }
+    
+    private static int mix(int channel1, int channel2, int weight, int inverse) {
+        return (channel1 * inverse + channel2 * weight + PixelKernels.BLEND_ROUND) >> PixelKernels.BLEND_SHIFT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.yourname.dynamictexture.core.image;
+
+/**
+ * Per-thread reusable pixel arrays for kernels that need temporary storage.
+ * A buffer is only valid until the same slot is requested again on the same thread,
+ * so callers must not keep it past the operation that borrowed it.
+ */
+public final class ScratchBuffers {
+    public static final int SLOTS = 3;
+    
+    // Larger buffers are handed out but not kept, so one huge texture doesn't pin memory per thread
+    private static final int MAX_RETAINED_PIXELS = 1024 * 1024;
+    
+    private static final ThreadLocal<int[][]> BUFFERS = ThreadLocal.withInitial(() -> new int[SLOTS][]);
+    
+    private ScratchBuffers() {
+    }
+    
+    /**
+     * Get a buffer of at least {@code pixelCount} ints for the given slot.
+     * Contents are undefined.
+     */
+    public static int[] get(int slot, int pixelCount) {
+        int[][] buffers = BUFFERS.get();
+        int[] buffer = buffers[slot];
+        
+        if (buffer != null && buffer.length >= pixelCount) {
+            return buffer;
+        }
+        
+        buffer = new int[pixelCount];
+        if (pixelCount <= MAX_RETAINED_PIXELS) {
+            buffers[slot] = buffer;
+        }
+        return buffer;
+    }
+}
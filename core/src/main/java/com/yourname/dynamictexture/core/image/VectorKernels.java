@@ -0,0 +1,158 @@
+package com.yourname.dynamictexture.core.image;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link PixelKernels}.
+ * Unpacks ARGB lanes into int vectors, does the same fixed-point channel math as
+ * {@link ScalarKernels}, and repacks. Everything stays in int lanes, since int/float
+ * lane conversions are not intrinsified on every JDK. Tails go to the scalar path.
+ * Only loaded when jdk.incubator.vector is in the boot layer.
+ */
+final class VectorKernels {
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+    
+    // Lane sums are flushed to longs before 255 * BLOCK / lanes can overflow an int
+    private static final int AVERAGE_BLOCK = 1 << 16;
+    
+    private VectorKernels() {
+    }
+    
+    /**
+     * Whether the preferred shape is wide enough to beat the scalar loop
+     */
+    static boolean isUsable() {
+        return INT.length() >= 4;
+    }
+    
+    static int laneCount() {
+        return INT.length();
+    }
+    
+    static void tint(int[] src, int[] dst, int count, int r, int g, int b) {
+        int bound = INT.loopBound(count);
+        int i = 0;
+        
+        for (; i < bound; i += INT.length()) {
+            IntVector pixel = IntVector.fromArray(INT, src, i);
+            pack(
+                alpha(pixel),
+                div255(red(pixel).mul(r)),
+                div255(green(pixel).mul(g)),
+                div255(blue(pixel).mul(b))
+            ).intoArray(dst, i);
+        }
+        
+        ScalarKernels.tint(src, dst, i, count, r, g, b);
+    }
+    
+    static void grayscale(int[] src, int[] dst, int count) {
+        int bound = INT.loopBound(count);
+        int i = 0;
+        
+        for (; i < bound; i += INT.length()) {
+            IntVector pixel = IntVector.fromArray(INT, src, i);
+            IntVector gray = red(pixel).mul(PixelKernels.LUMA_RED)
+                .add(green(pixel).mul(PixelKernels.LUMA_GREEN))
+                .add(blue(pixel).mul(PixelKernels.LUMA_BLUE))
+                .add(PixelKernels.LUMA_ROUND)
+                .lanewise(VectorOperators.LSHR, PixelKernels.LUMA_SHIFT);
+            pack(alpha(pixel), gray, gray, gray).intoArray(dst, i);
+        }
+        
+        ScalarKernels.grayscale(src, dst, i, count);
+    }
+    
+    static void blendRow(int[] a, int aOffset, int[] b, int bOffset, int[] dst, int dstOffset,
+                         int length, int weight) {
+        int inverse = PixelKernels.BLEND_ONE - weight;
+        int bound = INT.loopBound(length);
+        int x = 0;
+        
+        for (; x < bound; x += INT.length()) {
+            IntVector pixel1 = IntVector.fromArray(INT, a, aOffset + x);
+            IntVector pixel2 = IntVector.fromArray(INT, b, bOffset + x);
+            pack(
+                mix(alpha(pixel1), alpha(pixel2), weight, inverse),
+                mix(red(pixel1), red(pixel2), weight, inverse),
+                mix(green(pixel1), green(pixel2), weight, inverse),
+                mix(blue(pixel1), blue(pixel2), weight, inverse)
+            ).intoArray(dst, dstOffset + x);
+        }
+        
+        ScalarKernels.blendRow(a, aOffset, b, bOffset, dst, dstOffset, x, length, weight);
+    }
+    
+    static void accumulate(int[] src, int count, long[] totals) {
+        int bound = INT.loopBound(count);
+        int i = 0;
+        
+        while (i < bound) {
+            int blockEnd = Math.min(bound, i + AVERAGE_BLOCK);
+            IntVector sumA = IntVector.zero(INT);
+            IntVector sumR = IntVector.zero(INT);
+            IntVector sumG = IntVector.zero(INT);
+            IntVector sumB = IntVector.zero(INT);
+            IntVector counted = IntVector.zero(INT);
+            
+            for (; i < blockEnd; i += INT.length()) {
+                IntVector pixel = IntVector.fromArray(INT, src, i);
+                IntVector alpha = alpha(pixel);
+                VectorMask<Integer> visible = alpha.compare(VectorOperators.GT, 0);
+                
+                sumA = sumA.add(alpha, visible);
+                sumR = sumR.add(red(pixel), visible);
+                sumG = sumG.add(green(pixel), visible);
+                sumB = sumB.add(blue(pixel), visible);
+                counted = counted.add(1, visible);
+            }
+            
+            totals[0] += sumA.reduceLanesToLong(VectorOperators.ADD);
+            totals[1] += sumR.reduceLanesToLong(VectorOperators.ADD);
+            totals[2] += sumG.reduceLanesToLong(VectorOperators.ADD);
+            totals[3] += sumB.reduceLanesToLong(VectorOperators.ADD);
+            totals[4] += counted.reduceLanesToLong(VectorOperators.ADD);
+        }
+        
+        ScalarKernels.accumulate(src, i, count, totals);
+    }
+    
+    private static IntVector mix(IntVector channel1, IntVector channel2, int weight, int inverse) {
+        return channel1.mul(inverse)
+            .add(channel2.mul(weight))
+            .add(PixelKernels.BLEND_ROUND)
+            .lanewise(VectorOperators.LSHR, PixelKernels.BLEND_SHIFT);
+    }
+    
+    private static IntVector div255(IntVector x) {
+        return x.add(1)
+            .add(x.lanewise(VectorOperators.LSHR, 8))
+            .lanewise(VectorOperators.LSHR, 8);
+    }
+    
+    private static IntVector alpha(IntVector pixel) {
+        return pixel.lanewise(VectorOperators.LSHR, 24);
+    }
+    
+    private static IntVector red(IntVector pixel) {
+        return pixel.lanewise(VectorOperators.LSHR, 16).and(0xFF);
+    }
+    
+    private static IntVector green(IntVector pixel) {
+        return pixel.lanewise(VectorOperators.LSHR, 8).and(0xFF);
+    }
+    
+    private static IntVector blue(IntVector pixel) {
+        return pixel.and(0xFF);
+    }
+    
+    private static IntVector pack(IntVector alpha, IntVector red, IntVector green, IntVector blue) {
+        return alpha.lanewise(VectorOperators.LSHL, 24)
+            .or(red.lanewise(VectorOperators.LSHL, 16))
+            .or(green.lanewise(VectorOperators.LSHL, 8))
+            .or(blue);
+    }
+}
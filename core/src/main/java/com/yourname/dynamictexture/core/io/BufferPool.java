@@ -0,0 +1,81 @@
+package com.yourname.dynamictexture.core.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Direct byte buffers reused across reads, bucketed by power-of-two capacity.
+ * Requests above the largest bucket get a fresh buffer that is dropped on release. Thread-safe.
+ */
+public class BufferPool {
+    private static final int MIN_SHIFT = 12;
+    
+    private final int maxShift;
+    private final int perBucket;
+    private final List<Queue<ByteBuffer>> buckets;
+    private final AtomicIntegerArray pooled;
+    
+    /**
+     * @param maxCapacity largest buffer kept for reuse, rounded up to a power of two
+     * @param perBucket   buffers kept per capacity
+     */
+    public BufferPool(int maxCapacity, int perBucket) {
+        this.maxShift = Math.max(MIN_SHIFT, shiftFor(maxCapacity));
+        this.perBucket = perBucket;
+        int count = maxShift - MIN_SHIFT + 1;
+        this.buckets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            buckets.add(new ConcurrentLinkedQueue<>());
+        }
+        this.pooled = new AtomicIntegerArray(count);
+    }
+    
+    /**
+     * Get a cleared buffer with at least {@code capacity} bytes, limited to {@code capacity}
+     */
+    public ByteBuffer acquire(int capacity) {
+        int shift = shiftFor(capacity);
+        if (shift > maxShift) {
+            return ByteBuffer.allocateDirect(capacity);
+        }
+        
+        int bucket = shift - MIN_SHIFT;
+        ByteBuffer buffer = buckets.get(bucket).poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(1 << shift);
+        } else {
+            pooled.decrementAndGet(bucket);
+        }
+        return buffer.clear().limit(capacity);
+    }
+    
+    /**
+     * Return a buffer from {@link #acquire}; it must not be used afterwards
+     */
+    public void release(ByteBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (!buffer.isDirect() || Integer.bitCount(capacity) != 1) {
+            return;
+        }
+        
+        int shift = Integer.numberOfTrailingZeros(capacity);
+        if (shift < MIN_SHIFT || shift > maxShift) {
+            return;
+        }
+        
+        int bucket = shift - MIN_SHIFT;
+        if (pooled.incrementAndGet(bucket) <= perBucket) {
+            buckets.get(bucket).offer(buffer);
+        } else {
+            pooled.decrementAndGet(bucket);
+        }
+    }
+    
+    private static int shiftFor(int capacity) {
+        return Math.max(MIN_SHIFT, 32 - Integer.numberOfLeadingZeros(Math.max(1, capacity) - 1));
+    }
+}
@@ -0,0 +1,288 @@
+package com.yourname.dynamictexture.core.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Zip archive mapped into memory once, with its central directory indexed by entry name.
+ * Stored entries are returned as slices of the mapping without copying; deflated entries
+ * are inflated straight into a pooled direct buffer. Zip64 and encrypted archives are
+ * rejected so callers can fall back to {@link java.util.zip.ZipFile}. Thread-safe once opened.
+ * <p>
+ * Closing unmaps the file as soon as every stored entry handed out has been closed too, so the
+ * pack can be replaced on disk without waiting for the garbage collector.
+ */
+public class MappedZip implements Closeable {
+    private static final int LOCAL_HEADER = 0x04034B50;
+    private static final int CENTRAL_HEADER = 0x02014B50;
+    private static final int END_HEADER = 0x06054B50;
+    private static final int END_SIZE = 22;
+    private static final int MAX_COMMENT = 0xFFFF;
+    
+    private static final int METHOD_STORED = 0;
+    private static final int METHOD_DEFLATED = 8;
+    private static final int FLAG_ENCRYPTED = 1;
+    
+    // Unsafe.invokeCleaner, or null where it isn't reachable and mappings are left to the GC
+    private static final MethodHandle UNMAP = findUnmap();
+    
+    private final MappedByteBuffer mapping;
+    private final ByteBuffer data;
+    private final Map<String, Entry> entries;
+    private int readers;
+    private boolean closed;
+    
+    private MappedZip(MappedByteBuffer mapping, Map<String, Entry> entries) {
+        this.mapping = mapping;
+        this.data = mapping.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        this.entries = entries;
+    }
+    
+    /**
+     * Map an archive and read its central directory
+     *
+     * @throws IOException if the file can't be mapped or isn't a plain zip archive
+     */
+    public static MappedZip open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new ZipException("Archive too large to map: " + path);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        
+        return new MappedZip(mapped, readDirectory(mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN)));
+    }
+    
+    /**
+     * Whether the archive has an entry with this name
+     */
+    public boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+    
+    /**
+     * Get an entry's bytes, or null if the archive has no such entry.
+     * Stored entries keep the file mapped until the result is closed.
+     *
+     * @throws IOException if the archive is closed, or the entry is corrupt or uses an unsupported
+     *                     compression method
+     */
+    public ResourceBytes read(String name, BufferPool pool) throws IOException {
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        
+        acquire();
+        boolean handedOff = false;
+        try {
+            ByteBuffer compressed = data.slice(dataOffset(entry), entry.compressedSize);
+            if (entry.method == METHOD_STORED) {
+                handedOff = true;
+                return ResourceBytes.mapped(compressed, this::release);
+            }
+            if (entry.method != METHOD_DEFLATED) {
+                throw new ZipException("Unsupported compression method " + entry.method + " for " + name);
+            }
+            return inflate(entry, compressed, pool);
+        } finally {
+            if (!handedOff) {
+                release();
+            }
+        }
+    }
+    
+    private ResourceBytes inflate(Entry entry, ByteBuffer compressed, BufferPool pool) throws IOException {
+        ByteBuffer out = pool.acquire(entry.size);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            while (out.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(out) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated entry " + entry.name);
+                }
+            }
+            if (out.hasRemaining()) {
+                throw new ZipException("Entry " + entry.name + " is shorter than its recorded size");
+            }
+        } catch (DataFormatException e) {
+            pool.release(out);
+            throw new ZipException("Corrupt entry " + entry.name + ": " + e.getMessage());
+        } catch (IOException e) {
+            pool.release(out);
+            throw e;
+        } finally {
+            inflater.end();
+        }
+        return ResourceBytes.pooled(out.flip(), pool);
+    }
+    
+    /**
+     * Get number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Stop reading; the file is unmapped once every stored entry already read is closed
+     */
+    @Override
+    public synchronized void close() {
+        if (!closed) {
+            closed = true;
+            if (readers == 0) {
+                unmap();
+            }
+        }
+    }
+    
+    private synchronized void acquire() throws IOException {
+        if (closed) {
+            throw new IOException("Archive is closed");
+        }
+        readers++;
+    }
+    
+    private synchronized void release() {
+        if (--readers == 0 && closed) {
+            unmap();
+        }
+    }
+    
+    private void unmap() {
+        if (UNMAP == null) {
+            return;
+        }
+        try {
+            UNMAP.invokeExact((ByteBuffer) mapping);
+        } catch (Throwable t) {
+            // Left for the garbage collector
+        }
+    }
+    
+    private static MethodHandle findUnmap() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    private int dataOffset(Entry entry) throws ZipException {
+        int header = entry.headerOffset;
+        if (header + 30 > data.limit() || data.getInt(header) != LOCAL_HEADER) {
+            throw new ZipException("Bad local header for " + entry.name);
+        }
+        
+        int offset = header + 30 + (data.getShort(header + 26) & 0xFFFF) + (data.getShort(header + 28) & 0xFFFF);
+        if (offset + (long) entry.compressedSize > data.limit()) {
+            throw new ZipException("Entry " + entry.name + " runs past the end of the archive");
+        }
+        return offset;
+    }
+    
+    private static Map<String, Entry> readDirectory(ByteBuffer data) throws ZipException {
+        int end = findEnd(data);
+        int count = data.getShort(end + 10) & 0xFFFF;
+        long directorySize = data.getInt(end + 12) & 0xFFFFFFFFL;
+        long directoryOffset = data.getInt(end + 16) & 0xFFFFFFFFL;
+        if (count == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL) {
+            throw new ZipException("Zip64 archives are not supported");
+        }
+        if (directoryOffset + directorySize > end) {
+            throw new ZipException("Central directory runs past its end record");
+        }
+        
+        Map<String, Entry> entries = new HashMap<>(count * 4 / 3 + 1);
+        int position = (int) directoryOffset;
+        for (int i = 0; i < count; i++) {
+            if (position + 46 > end || data.getInt(position) != CENTRAL_HEADER) {
+                throw new ZipException("Bad central directory entry " + i);
+            }
+            
+            int flags = data.getShort(position + 8) & 0xFFFF;
+            int method = data.getShort(position + 10) & 0xFFFF;
+            long compressedSize = data.getInt(position + 20) & 0xFFFFFFFFL;
+            long size = data.getInt(position + 24) & 0xFFFFFFFFL;
+            int nameLength = data.getShort(position + 28) & 0xFFFF;
+            int extraLength = data.getShort(position + 30) & 0xFFFF;
+            int commentLength = data.getShort(position + 32) & 0xFFFF;
+            long headerOffset = data.getInt(position + 42) & 0xFFFFFFFFL;
+            
+            if (compressedSize == 0xFFFFFFFFL || size == 0xFFFFFFFFL || headerOffset == 0xFFFFFFFFL) {
+                throw new ZipException("Zip64 archives are not supported");
+            }
+            if (size > Integer.MAX_VALUE) {
+                throw new ZipException("Entry too large to buffer");
+            }
+            if ((flags & FLAG_ENCRYPTED) != 0) {
+                throw new ZipException("Encrypted archives are not supported");
+            }
+            
+            byte[] nameBytes = new byte[nameLength];
+            data.get(position + 46, nameBytes);
+            String name = new String(nameBytes, StandardCharsets.UTF_8);
+            // Directories carry no data
+            if (!name.endsWith("/")) {
+                entries.put(name, new Entry(name, method, (int) compressedSize, (int) size, (int) headerOffset));
+            }
+            
+            position += 46 + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+    
+    /**
+     * Find the end of central directory record, searching back over a possible archive comment
+     */
+    private static int findEnd(ByteBuffer data) throws ZipException {
+        int last = data.limit() - END_SIZE;
+        int first = Math.max(0, last - MAX_COMMENT);
+        for (int position = last; position >= first; position--) {
+            if (data.getInt(position) == END_HEADER) {
+                return position;
+            }
+        }
+        throw new ZipException("No end of central directory record");
+    }
+    
+    private static class Entry {
+        final String name;
+        final int method;
+        final int compressedSize;
+        final int size;
+        final int headerOffset;
+        
+        Entry(String name, int method, int compressedSize, int size, int headerOffset) {
+            this.name = name;
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.headerOffset = headerOffset;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourname.dynamictexture.core.io;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only view of a resource's bytes, either mapped straight from a pack file or held
+ * in a pooled direct buffer. Close it to give a pooled buffer back or let the mapping go;
+ * the view is invalid after that.
+ */
+public class ResourceBytes implements AutoCloseable {
+    private final ByteBuffer view;
+    private final boolean mapped;
+    private final Runnable release;
+    private boolean closed;
+    
+    private ResourceBytes(ByteBuffer view, boolean mapped, Runnable release) {
+        this.view = view;
+        this.mapped = mapped;
+        this.release = release;
+    }
+    
+    /**
+     * Wrap a region of a mapped file, which must stay mapped until {@code release} runs on close
+     */
+    public static ResourceBytes mapped(ByteBuffer bytes, Runnable release) {
+        return new ResourceBytes(bytes.asReadOnlyBuffer(), true, release);
+    }
+    
+    /**
+     * Wrap the filled part of a buffer acquired from {@code pool}, flipped for reading
+     */
+    public static ResourceBytes pooled(ByteBuffer buffer, BufferPool pool) {
+        return new ResourceBytes(buffer.asReadOnlyBuffer(), false, () -> pool.release(buffer));
+    }
+    
+    /**
+     * Get the bytes; each call returns an independent position and limit over the same memory
+     */
+    public ByteBuffer buffer() {
+        return view.duplicate();
+    }
+    
+    public int size() {
+        return view.remaining();
+    }
+    
+    /**
+     * Whether the bytes come from a mapped file rather than a copy
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+    
+    /**
+     * Copy the bytes onto the heap, for callers that need an array
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[view.remaining()];
+        view.duplicate().get(bytes);
+        return bytes;
+    }
+    
+    @Override
+    public void close() {
+        if (!closed) {
+            release.run();
+        }
+        closed = true;
+    }
+}
@@ -0,0 +1,68 @@
+package com.yourname.dynamictexture.core.profile;
+
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores one JSON file per named profile in a directory
+ */
+public class ProfileStore<T> {
+    private final Path directory;
+    private final Class<T> type;
+    private final Gson gson;
+    
+    public ProfileStore(Path directory, Class<T> type, Gson gson) {
+        this.directory = directory;
+        this.type = type;
+        this.gson = gson;
+    }
+    
+    public Path getDirectory() {
+        return directory;
+    }
+    
+    /**
+     * Write a profile to {@code <name>.json}, replacing any previous version
+     */
+    public void save(String name, T profile) throws IOException {
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(name + ".json"), StandardCharsets.UTF_8)) {
+            gson.toJson(profile, writer);
+        }
+    }
+    
+    /**
+     * Read every profile in the directory.
+     * Files that fail to parse are passed to {@code onError} and skipped.
+     */
+    public List<T> loadAll(BiConsumer<Path, Exception> onError) throws IOException {
+        List<T> profiles = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return profiles;
+        }
+        
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    T profile = gson.fromJson(reader, type);
+                    if (profile != null) {
+                        profiles.add(profile);
+                    }
+                } catch (Exception e) {
+                    onError.accept(file, e);
+                }
+            }
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,189 @@
+package com.yourname.dynamictexture.core.atlas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RegionAllocatorTest {
+    
+    @Test
+    void reusesFreedRectangle() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        SkylinePacker.Rect first = allocator.allocate(16, 16);
+        allocator.allocate(16, 16);
+        allocator.free(first);
+        assertEquals(1, allocator.getFreeListSize());
+        
+        SkylinePacker.Rect reused = allocator.allocate(16, 16);
+        assertEquals(first.x, reused.x);
+        assertEquals(first.y, reused.y);
+        assertEquals(0, allocator.getFreeListSize());
+        assertEquals(0L, allocator.getFreeArea());
+    }
+    
+    @Test
+    void splitsLargerFreeRectangle() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        SkylinePacker.Rect big = allocator.allocate(32, 32);
+        allocator.allocate(8, 8);
+        allocator.free(big);
+        
+        SkylinePacker.Rect small = allocator.allocate(16, 8);
+        assertEquals(big.x, small.x);
+        assertEquals(big.y, small.y);
+        assertEquals(16L * 8 + 8 * 8, allocator.getLiveArea());
+        assertEquals(32L * 32 - 16 * 8, allocator.getFreeArea());
+    }
+    
+    @Test
+    void prefersBestFit() {
+        RegionAllocator allocator = new RegionAllocator(128, 128);
+        SkylinePacker.Rect large = allocator.allocate(32, 32);
+        allocator.allocate(8, 8);
+        SkylinePacker.Rect snug = allocator.allocate(16, 16);
+        allocator.allocate(8, 8);
+        allocator.free(large);
+        allocator.free(snug);
+        
+        SkylinePacker.Rect rect = allocator.allocate(16, 16);
+        assertEquals(snug.x, rect.x);
+        assertEquals(snug.y, rect.y);
+    }
+    
+    @Test
+    void mergesAdjacentFreeRectangles() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        List<SkylinePacker.Rect> row = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            row.add(allocator.allocate(16, 16));
+        }
+        allocator.free(row.get(1));
+        allocator.free(row.get(2));
+        assertEquals(1, allocator.getFreeListSize());
+        
+        // Neither half alone fits, the merged hole does
+        SkylinePacker.Rect wide = allocator.allocate(32, 16);
+        assertEquals(row.get(1).x, wide.x);
+        assertEquals(row.get(1).y, wide.y);
+        assertEquals(0L, allocator.getFreeArea());
+    }
+    
+    @Test
+    void emptyPageIsFullyReusable() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        List<SkylinePacker.Rect> rects = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            rects.add(allocator.allocate(16, 16));
+        }
+        // Free in an order that leaves holes no pairwise merge can close
+        for (int i : new int[] {0, 5, 10, 15, 2, 7, 8, 13, 1, 4, 11, 14, 3, 6, 9, 12}) {
+            allocator.free(rects.get(i));
+        }
+        
+        assertEquals(0, allocator.getFreeListSize());
+        assertEquals(0.0f, allocator.getFragmentation());
+        assertNotNull(allocator.allocate(64, 64));
+    }
+    
+    @Test
+    void tracksFragmentation() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        assertEquals(0.0f, allocator.getFragmentation());
+        
+        List<SkylinePacker.Rect> rects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            rects.add(allocator.allocate(16, 16));
+        }
+        assertEquals(0.0f, allocator.getFragmentation());
+        
+        allocator.free(rects.get(0));
+        allocator.free(rects.get(2));
+        assertEquals(0.5f, allocator.getFragmentation());
+        
+        allocator.reset();
+        assertEquals(0L, allocator.getLiveArea());
+        assertEquals(0L, allocator.getFreeArea());
+        assertEquals(0, allocator.getFreeListSize());
+    }
+    
+    @Test
+    void churnNeverOverlapsLiveRectangles() {
+        Random random = new Random(11);
+        RegionAllocator allocator = new RegionAllocator(128, 128);
+        List<SkylinePacker.Rect> live = new ArrayList<>();
+        long liveArea = 0;
+        for (int i = 0; i < 2000; i++) {
+            if (!live.isEmpty() && random.nextInt(3) == 0) {
+                SkylinePacker.Rect rect = live.remove(random.nextInt(live.size()));
+                allocator.free(rect);
+                liveArea -= (long) rect.width * rect.height;
+            } else {
+                int size = 4 << random.nextInt(3);
+                SkylinePacker.Rect rect = allocator.allocate(size, size);
+                if (rect != null) {
+                    live.add(rect);
+                    liveArea += (long) size * size;
+                }
+            }
+        }
+        
+        SkylinePackerTest.assertNoOverlap(live, 128, 128);
+        assertEquals(liveArea, allocator.getLiveArea());
+        assertTrue(allocator.getLiveArea() + allocator.getFreeArea() <= 128L * 128);
+    }
+    
+    @Test
+    void failedCompactionAppliesDeferredFrees() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        SkylinePacker.Rect freed = allocator.allocate(16, 16);
+        allocator.allocate(16, 16);
+        
+        // Region freed while the compaction snapshot is in flight
+        allocator.deferFrees();
+        allocator.free(freed);
+        assertEquals(2L * 16 * 16, allocator.getLiveArea());
+        assertEquals(0, allocator.getFreeListSize());
+        
+        // Compaction failed, so the old layout stays and must get the space back
+        allocator.applyDeferredFrees();
+        assertFalse(allocator.isDeferringFrees());
+        assertEquals(16L * 16, allocator.getLiveArea());
+        assertEquals(16L * 16, allocator.getFreeArea());
+        
+        SkylinePacker.Rect reused = allocator.allocate(16, 16);
+        assertEquals(freed.x, reused.x);
+        assertEquals(freed.y, reused.y);
+    }
+    
+    @Test
+    void discardedDeferredFreesAreNotReplayed() {
+        RegionAllocator allocator = new RegionAllocator(64, 64);
+        SkylinePacker.Rect freed = allocator.allocate(16, 16);
+        allocator.allocate(16, 16);
+        
+        allocator.deferFrees();
+        allocator.free(freed);
+        allocator.discardDeferredFrees();
+        assertFalse(allocator.isDeferringFrees());
+        
+        // Later frees apply immediately and nothing queued comes back
+        allocator.applyDeferredFrees();
+        assertEquals(2L * 16 * 16, allocator.getLiveArea());
+        assertEquals(0L, allocator.getFreeArea());
+    }
+    
+    @Test
+    void fullPageRejects() {
+        RegionAllocator allocator = new RegionAllocator(16, 16);
+        assertNotNull(allocator.allocate(16, 16));
+        assertNull(allocator.allocate(1, 1));
+    }
+}
@@ -0,0 +1,107 @@
+package com.yourname.dynamictexture.core.atlas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkylinePackerTest {
+    
+    @Test
+    void rejectsInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SkylinePacker(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new SkylinePacker(16, -1));
+    }
+    
+    @Test
+    void rejectsRectanglesThatCannotFit() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+        assertNull(packer.insert(65, 1));
+        assertNull(packer.insert(1, 65));
+        assertNull(packer.insert(0, 8));
+    }
+    
+    @Test
+    void fillsPageExactlyWithEqualTiles() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+        List<SkylinePacker.Rect> placed = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            SkylinePacker.Rect rect = packer.insert(16, 16);
+            assertNotNull(rect, "tile " + i);
+            placed.add(rect);
+        }
+        
+        assertNull(packer.insert(16, 16));
+        assertEquals(1.0f, packer.getOccupancy());
+        assertNoOverlap(placed, 64, 64);
+    }
+    
+    @Test
+    void placesLowestFirst() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+        packer.insert(32, 32);
+        SkylinePacker.Rect next = packer.insert(16, 16);
+        
+        // The empty right half is lower than the top of the first rectangle
+        assertEquals(32, next.x);
+        assertEquals(0, next.y);
+    }
+    
+    @Test
+    void randomSizesNeverOverlap() {
+        Random random = new Random(7);
+        SkylinePacker packer = new SkylinePacker(256, 256);
+        List<SkylinePacker.Rect> placed = new ArrayList<>();
+        long area = 0;
+        for (int i = 0; i < 500; i++) {
+            int width = 1 + random.nextInt(40);
+            int height = 1 + random.nextInt(40);
+            SkylinePacker.Rect rect = packer.insert(width, height);
+            if (rect != null) {
+                assertEquals(width, rect.width);
+                assertEquals(height, rect.height);
+                placed.add(rect);
+                area += (long) width * height;
+            }
+        }
+        
+        assertFalse(placed.isEmpty());
+        assertNoOverlap(placed, 256, 256);
+        assertEquals((float) area / (256 * 256), packer.getOccupancy(), 1e-6f);
+    }
+    
+    @Test
+    void resetForgetsPlacements() {
+        SkylinePacker packer = new SkylinePacker(32, 32);
+        assertNotNull(packer.insert(32, 32));
+        assertNull(packer.insert(1, 1));
+        
+        packer.reset();
+        assertEquals(0.0f, packer.getOccupancy());
+        SkylinePacker.Rect rect = packer.insert(32, 32);
+        assertEquals(0, rect.x);
+        assertEquals(0, rect.y);
+    }
+    
+    static void assertNoOverlap(List<SkylinePacker.Rect> rects, int width, int height) {
+        for (int i = 0; i < rects.size(); i++) {
+            SkylinePacker.Rect a = rects.get(i);
+            assertTrue(a.x >= 0 && a.y >= 0 && a.x + a.width <= width && a.y + a.height <= height,
+                "out of bounds: " + a);
+            for (int j = i + 1; j < rects.size(); j++) {
+                SkylinePacker.Rect b = rects.get(j);
+                boolean overlaps = a.x < b.x + b.width && b.x < a.x + a.width
+                    && a.y < b.y + b.height && b.y < a.y + a.height;
+                assertFalse(overlaps, a + " overlaps " + b);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.yourname.dynamictexture.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentStoreTest {
+    private final List<String> released = new ArrayList<>();
+    private final ContentStore<String> store = new ContentStore<>(released::add);
+    
+    @Test
+    void releasesOnLastReference() {
+        store.add(1L, "one");
+        assertSame("one", store.acquire(1L));
+        assertEquals(2, store.refCount(1L));
+        
+        assertFalse(store.release(1L));
+        assertTrue(released.isEmpty());
+        assertTrue(store.release(1L));
+        assertEquals(List.of("one"), released);
+        assertEquals(0, store.refCount(1L));
+        assertNull(store.get(1L));
+    }
+    
+    @Test
+    void addingKnownContentReturnsStoredValue() {
+        String first = new String("same");
+        String second = new String("same");
+        assertSame(first, store.add(7L, first));
+        assertSame(first, store.add(7L, second));
+        assertEquals(2, store.refCount(7L));
+        assertEquals(1, store.size());
+    }
+    
+    @Test
+    void unknownHashesAreIgnored() {
+        assertNull(store.acquire(3L));
+        assertFalse(store.release(3L));
+        store.remove(3L);
+        assertTrue(released.isEmpty());
+    }
+    
+    @Test
+    void getDoesNotTakeReference() {
+        store.add(2L, "two");
+        assertSame("two", store.get(2L));
+        assertEquals(1, store.refCount(2L));
+    }
+    
+    @Test
+    void removeAndClearReleaseRegardlessOfReferences() {
+        store.add(1L, "one");
+        store.acquire(1L);
+        store.add(2L, "two");
+        
+        store.remove(1L);
+        assertEquals(List.of("one"), released);
+        
+        store.clear();
+        assertEquals(List.of("one", "two"), released);
+        assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,104 @@
+package com.yourname.dynamictexture.core.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailStoreTest {
+    @TempDir
+    Path dir;
+    
+    @Test
+    void roundTripsAcrossReopen() throws IOException {
+        Path file = dir.resolve("thumbnails.bin");
+        int[] pixels = pattern(16 * 16, 1);
+        try (ThumbnailStore store = ThumbnailStore.open(file, 256 * 1024)) {
+            store.put(42L, 16, 16, pixels);
+        }
+        
+        try (ThumbnailStore store = ThumbnailStore.open(file, 256 * 1024)) {
+            int[] read = new int[16 * 16];
+            assertTrue(store.get(42L, 16, 16, read));
+            assertArrayEquals(pixels, read);
+            assertFalse(store.get(43L, 16, 16, read));
+        }
+    }
+    
+    @Test
+    void keepsEverySizeOfTheSameContent() throws IOException {
+        try (ThumbnailStore store = ThumbnailStore.open(dir.resolve("thumbnails.bin"), 256 * 1024)) {
+            store.put(7L, 16, 16, pattern(16 * 16, 1));
+            store.put(7L, 32, 32, pattern(32 * 32, 2));
+            store.put(7L, 16, 8, pattern(16 * 8, 3));
+            assertEquals(3, store.size());
+            
+            int[] read = new int[32 * 32];
+            assertTrue(store.get(7L, 16, 16, read));
+            assertArrayEquals(pattern(16 * 16, 1), Arrays.copyOf(read, 16 * 16));
+            assertTrue(store.get(7L, 32, 32, read));
+            assertArrayEquals(pattern(32 * 32, 2), read);
+        }
+    }
+    
+    @Test
+    void damagedRecordReadsAsMiss() throws IOException {
+        Path file = dir.resolve("thumbnails.bin");
+        try (ThumbnailStore store = ThumbnailStore.open(file, 256 * 1024)) {
+            store.put(9L, 16, 16, pattern(16 * 16, 4));
+        }
+        
+        // Flip a pixel byte of the only record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1}), 32 + 32 + 5);
+        }
+        
+        try (ThumbnailStore store = ThumbnailStore.open(file, 256 * 1024)) {
+            assertFalse(store.get(9L, 16, 16, new int[16 * 16]));
+        }
+    }
+    
+    @Test
+    void dropsOldestWhenFull() throws IOException {
+        // Clamped up to the minimum capacity
+        try (ThumbnailStore store = ThumbnailStore.open(dir.resolve("thumbnails.bin"), 1)) {
+            int record = 32 + 32 * 32 * Integer.BYTES;
+            int count = 4 * 64 * 1024 / record;
+            for (int i = 0; i < count; i++) {
+                store.put(i, 32, 32, pattern(32 * 32, i));
+            }
+            
+            assertTrue(store.usedBytes() <= 64 * 1024);
+            assertTrue(store.size() < count);
+            int[] read = new int[32 * 32];
+            assertTrue(store.get(count - 1, 32, 32, read));
+            assertArrayEquals(pattern(32 * 32, count - 1), read);
+        }
+    }
+    
+    @Test
+    void ignoresThumbnailsTooLargeForTheFile() throws IOException {
+        try (ThumbnailStore store = ThumbnailStore.open(dir.resolve("thumbnails.bin"), 64 * 1024)) {
+            store.put(1L, 256, 256, new int[256 * 256]);
+            assertEquals(0, store.size());
+        }
+    }
+    
+    private static int[] pattern(int count, int seed) {
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = (i * 0x01010101 + seed * 0x9E3779B9) | 0xFF000000;
+        }
+        return pixels;
+    }
+}
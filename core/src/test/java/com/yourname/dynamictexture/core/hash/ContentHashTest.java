@@ -0,0 +1,47 @@
+package com.yourname.dynamictexture.core.hash;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ContentHashTest {
+    
+    @Test
+    void matchesReferenceVectors() {
+        assertEquals(0xEF46DB3751D8E999L, ContentHash.hash64(new byte[0]));
+        assertEquals(0xD24EC4F1A98C6E5BL, ContentHash.hash64(ascii("a")));
+        assertEquals(0x44BC2CF5AD770999L, ContentHash.hash64(ascii("abc")));
+        assertEquals(0xFBCEA83C8A378BF1L, ContentHash.hash64(ascii("Nobody inspects the spammish repetition")));
+        
+        byte[] sequence = new byte[100];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = (byte) i;
+        }
+        assertEquals(0x6AC1E58032166597L, ContentHash.hash64(sequence));
+    }
+    
+    @Test
+    void buffersMatchArrays() {
+        Random random = new Random(5);
+        // Covers every tail shape after the 32-byte stripes
+        for (int length = 0; length <= 100; length++) {
+            byte[] data = new byte[length + 3];
+            random.nextBytes(data);
+            long expected = ContentHash.hash64(data, 3, length);
+            
+            assertEquals(expected, ContentHash.hash64(ByteBuffer.wrap(data, 3, length)), "heap, length " + length);
+            
+            ByteBuffer direct = ByteBuffer.allocateDirect(length + 3).put(data).position(3);
+            assertEquals(expected, ContentHash.hash64(direct), "direct, length " + length);
+            assertEquals(3, direct.position());
+        }
+    }
+    
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,89 @@
+package com.yourname.dynamictexture.core.hash;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PackFingerprintTest {
+    private static final long MODIFIED = 1_700_000_000_000L;
+    
+    @TempDir
+    Path dir;
+    
+    @Test
+    void settledFolderIsStable() throws IOException {
+        Path pack = dir.resolve("pack");
+        write(pack.resolve("assets/a.png"), "aaaa", MODIFIED);
+        write(pack.resolve("pack.mcmeta"), "{}", MODIFIED);
+        
+        long later = MODIFIED + 60_000;
+        assertEquals(PackFingerprint.of(pack, later), PackFingerprint.of(pack, later + 1000));
+    }
+    
+    @Test
+    void folderSeesAddedAndResizedFiles() throws IOException {
+        Path pack = dir.resolve("pack");
+        write(pack.resolve("assets/a.png"), "aaaa", MODIFIED);
+        long now = MODIFIED + 60_000;
+        long before = PackFingerprint.of(pack, now);
+        
+        write(pack.resolve("assets/b.png"), "bbbb", MODIFIED);
+        long added = PackFingerprint.of(pack, now);
+        assertNotEquals(before, added);
+        
+        write(pack.resolve("assets/a.png"), "aaaaa", MODIFIED);
+        assertNotEquals(added, PackFingerprint.of(pack, now));
+    }
+    
+    @Test
+    void racyFolderFileIsHashed() throws IOException {
+        Path pack = dir.resolve("pack");
+        Path file = pack.resolve("assets/a.png");
+        write(file, "aaaa", MODIFIED);
+        long now = MODIFIED + 500;
+        long before = PackFingerprint.of(pack, now);
+        
+        // Saved again within the same tick: same size, same time
+        write(file, "bbbb", MODIFIED);
+        assertNotEquals(before, PackFingerprint.of(pack, now));
+    }
+    
+    @Test
+    void racyArchiveIsHashed() throws IOException {
+        Path archive = dir.resolve("pack.zip");
+        write(archive, "zip one", MODIFIED);
+        long now = MODIFIED + 500;
+        long before = PackFingerprint.of(archive, now);
+        
+        write(archive, "zip two", MODIFIED);
+        assertNotEquals(before, PackFingerprint.of(archive, now));
+    }
+    
+    @Test
+    void settlingFileCountsAsChanged() throws IOException {
+        Path pack = dir.resolve("pack");
+        Path file = pack.resolve("assets/a.png");
+        write(file, "aaaa", MODIFIED);
+        long racy = PackFingerprint.of(pack, MODIFIED + 500);
+        
+        // Rewritten in the same tick after the racy fingerprint, first seen once settled
+        write(file, "bbbb", MODIFIED);
+        long settled = PackFingerprint.of(pack, MODIFIED + 60_000);
+        assertNotEquals(racy, settled);
+        assertEquals(settled, PackFingerprint.of(pack, MODIFIED + 120_000));
+    }
+    
+    private static void write(Path file, String content, long modified) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modified));
+    }
+}
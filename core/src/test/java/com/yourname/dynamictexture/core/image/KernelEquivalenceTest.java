@@ -0,0 +1,90 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+/**
+ * The vector kernels must match the scalar ones pixel for pixel, including the tails
+ * left over after the last full vector
+ */
+class KernelEquivalenceTest {
+    private static final int LANES = VectorKernels.laneCount();
+    // Empty, shorter than a vector, around vector multiples, and a long odd run
+    private static final int[] COUNTS = {0, 1, 3, LANES - 1, LANES, LANES + 1, 3 * LANES + 1, 4 * LANES - 1, 1021};
+    
+    @Test
+    void tintMatches() {
+        for (int count : COUNTS) {
+            int[] src = randomPixels(count, count);
+            int[] scalar = new int[count];
+            int[] vector = new int[count];
+            ScalarKernels.tint(src, scalar, 0, count, 255, 128, 7);
+            VectorKernels.tint(src, vector, count, 255, 128, 7);
+            assertArrayEquals(scalar, vector, "count " + count);
+        }
+    }
+    
+    @Test
+    void grayscaleMatches() {
+        for (int count : COUNTS) {
+            int[] src = randomPixels(count, count);
+            int[] scalar = new int[count];
+            int[] vector = new int[count];
+            ScalarKernels.grayscale(src, scalar, 0, count);
+            VectorKernels.grayscale(src, vector, count);
+            assertArrayEquals(scalar, vector, "count " + count);
+        }
+    }
+    
+    @Test
+    void blendRowMatchesAtOffsets() {
+        for (int count : COUNTS) {
+            for (int weight : new int[] {0, 1, 77, PixelKernels.BLEND_ONE}) {
+                int[] a = randomPixels(count + 5, count);
+                int[] b = randomPixels(count + 3, count + 1);
+                int[] scalar = new int[count + 2];
+                int[] vector = new int[count + 2];
+                ScalarKernels.blendRow(a, 5, b, 3, scalar, 2, 0, count, weight);
+                VectorKernels.blendRow(a, 5, b, 3, vector, 2, count, weight);
+                assertArrayEquals(scalar, vector, "count " + count + ", weight " + weight);
+            }
+        }
+    }
+    
+    @Test
+    void accumulateMatches() {
+        for (int count : COUNTS) {
+            int[] src = randomPixels(count, count);
+            // Some fully transparent pixels, which are left out of the sums
+            for (int i = 0; i < count; i += 3) {
+                src[i] &= 0x00FFFFFF;
+            }
+            long[] scalar = new long[5];
+            long[] vector = new long[5];
+            ScalarKernels.accumulate(src, 0, count, scalar);
+            VectorKernels.accumulate(src, count, vector);
+            assertArrayEquals(scalar, vector, "count " + count);
+        }
+    }
+    
+    @Test
+    void div255IsExact() {
+        for (int x = 0; x <= 255 * 255; x++) {
+            if (ScalarKernels.div255(x) != x / 255) {
+                throw new AssertionError("div255(" + x + ") = " + ScalarKernels.div255(x));
+            }
+        }
+    }
+    
+    private static int[] randomPixels(int count, long seed) {
+        Random random = new Random(seed);
+        int[] pixels = new int[count];
+        for (int i = 0; i < count; i++) {
+            pixels[i] = random.nextInt();
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,90 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MipChainTest {
+    
+    @Test
+    void halvesDownToOnePixel() {
+        MipChain chain = MipChain.generate(new int[16 * 4], 16, 4);
+        assertEquals(5, chain.levelCount());
+        int[][] sizes = {{16, 4}, {8, 2}, {4, 1}, {2, 1}, {1, 1}};
+        for (int level = 0; level < sizes.length; level++) {
+            assertEquals(sizes[level][0], chain.getWidth(level));
+            assertEquals(sizes[level][1], chain.getHeight(level));
+            assertEquals(sizes[level][0] * sizes[level][1], chain.getPixels(level).length);
+        }
+        assertEquals(64 + 16 + 4 + 2 + 1, chain.pixelCount());
+    }
+    
+    @Test
+    void keepsSourceAsLevelZero() {
+        int[] pixels = new int[9 * 5];
+        MipChain chain = MipChain.generate(pixels, 9, 5);
+        assertSame(pixels, chain.getPixels(0));
+        assertEquals(4, chain.getWidth(1));
+        assertEquals(2, chain.getHeight(1));
+    }
+    
+    @Test
+    void picksSmallestLevelLargeEnough() {
+        MipChain chain = MipChain.generate(new int[64 * 64], 64, 64);
+        assertEquals(0, chain.levelFor(64, 64));
+        assertEquals(0, chain.levelFor(128, 128));
+        assertEquals(1, chain.levelFor(32, 32));
+        assertEquals(1, chain.levelFor(20, 20));
+        assertEquals(2, chain.levelFor(16, 9));
+        assertEquals(6, chain.levelFor(1, 1));
+    }
+    
+    @Test
+    void solidColorSurvivesEveryLevel() {
+        int[] pixels = new int[32 * 16];
+        Arrays.fill(pixels, 0xFF336699);
+        MipChain chain = MipChain.generate(pixels, 32, 16);
+        for (int level = 0; level < chain.levelCount(); level++) {
+            for (int pixel : chain.getPixels(level)) {
+                assertEquals(0xFF336699, pixel, "level " + level);
+            }
+        }
+        
+        int[] resized = new int[7 * 3];
+        chain.resize(resized, 7, 3);
+        for (int pixel : resized) {
+            assertEquals(0xFF336699, pixel);
+        }
+    }
+    
+    @Test
+    void transparentPixelsDoNotDarkenEdges() {
+        // Opaque red next to transparent black
+        int[] pixels = {0xFFFF0000, 0x00000000, 0xFFFF0000, 0x00000000};
+        int[] half = new int[1];
+        Resampler.halve(pixels, 2, 2, half);
+        assertEquals(0xFF, Argb.red(half[0]));
+        assertTrue(Math.abs(Argb.alpha(half[0]) - 0x80) <= 1, "alpha " + Argb.alpha(half[0]));
+    }
+    
+    @Test
+    void halveMatchesAreaResizeOnEvenSizes() {
+        Random random = new Random(3);
+        int[] pixels = new int[12 * 8];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        
+        int[] halved = new int[6 * 4];
+        int[] area = new int[6 * 4];
+        Resampler.halve(pixels, 12, 8, halved);
+        Resampler.resizeArea(pixels, 12, 8, area, 6, 4);
+        assertArrayEquals(area, halved);
+    }
+}
@@ -0,0 +1,94 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PngHeaderTest {
+    
+    @Test
+    void readsHeaderFields() throws IOException {
+        PngHeader header = PngHeader.read(new ByteArrayInputStream(header(16, 32, 8, PngHeader.COLOR_RGBA, 0)));
+        assertEquals(16, header.width);
+        assertEquals(32, header.height);
+        assertEquals(8, header.bitDepth);
+        assertEquals(PngHeader.COLOR_RGBA, header.colorType);
+        assertFalse(header.interlaced);
+        assertTrue(header.hasAlpha());
+    }
+    
+    @Test
+    void readsBufferWithoutMovingIt() throws IOException {
+        byte[] bytes = header(300, 7, 4, PngHeader.COLOR_PALETTE, 1);
+        ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 10).put(bytes).flip();
+        
+        PngHeader header = PngHeader.read(buffer);
+        assertEquals(300, header.width);
+        assertEquals(7, header.height);
+        assertTrue(header.interlaced);
+        assertFalse(header.hasAlpha());
+        assertEquals(0, buffer.position());
+    }
+    
+    @Test
+    void rejectsTruncatedInput() {
+        byte[] bytes = header(16, 16, 8, PngHeader.COLOR_RGB, 0);
+        assertThrows(EOFException.class,
+            () -> PngHeader.read(new ByteArrayInputStream(bytes, 0, PngHeader.HEADER_BYTES - 1)));
+        assertThrows(EOFException.class, () -> PngHeader.read(ByteBuffer.wrap(bytes, 0, 20)));
+    }
+    
+    @Test
+    void rejectsBadSignature() {
+        byte[] bytes = header(16, 16, 8, PngHeader.COLOR_RGB, 0);
+        bytes[1] = 'J';
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(bytes)));
+    }
+    
+    @Test
+    void rejectsBadChecksum() {
+        byte[] bytes = header(16, 16, 8, PngHeader.COLOR_RGB, 0);
+        bytes[17] ^= 1;
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(bytes)));
+    }
+    
+    @Test
+    void rejectsInvalidFields() {
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(header(0, 16, 8, PngHeader.COLOR_RGB, 0))));
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(header(16, 16, 4, PngHeader.COLOR_RGB, 0))));
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(header(16, 16, 16, PngHeader.COLOR_PALETTE, 0))));
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(header(16, 16, 8, 5, 0))));
+        assertThrows(IOException.class, () -> PngHeader.read(ByteBuffer.wrap(header(16, 16, 8, PngHeader.COLOR_RGB, 2))));
+    }
+    
+    /**
+     * Build a signature and IHDR chunk with a valid checksum
+     */
+    static byte[] header(int width, int height, int bitDepth, int colorType, int interlace) {
+        ByteBuffer buffer = ByteBuffer.allocate(PngHeader.HEADER_BYTES);
+        buffer.putLong(0x89504E470D0A1A0AL);
+        buffer.putInt(13);
+        buffer.putInt(0x49484452);
+        buffer.putInt(width);
+        buffer.putInt(height);
+        buffer.put((byte) bitDepth);
+        buffer.put((byte) colorType);
+        buffer.put((byte) 0);
+        buffer.put((byte) 0);
+        buffer.put((byte) interlace);
+        
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 12, 4 + 13);
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+}
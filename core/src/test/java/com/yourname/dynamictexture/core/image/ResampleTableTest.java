@@ -0,0 +1,60 @@
+package com.yourname.dynamictexture.core.image;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResampleTableTest {
+    
+    @Test
+    void weightsAreNonNegativeAndSumToOne() {
+        for (int src = 1; src <= 70; src++) {
+            for (int dst = 1; dst <= 70; dst++) {
+                ResampleTable table = ResampleTable.area(src, dst);
+                for (int i = 0; i < dst; i++) {
+                    int sum = 0;
+                    for (int t = 0; t < table.count[i]; t++) {
+                        int weight = table.weights[table.offset[i] + t];
+                        assertTrue(weight >= 0, src + "->" + dst + " tap " + i);
+                        sum += weight;
+                    }
+                    assertEquals(ResampleTable.WEIGHT_ONE, sum, src + "->" + dst + " tap " + i);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void tapsStayInsideSource() {
+        for (int src = 1; src <= 70; src++) {
+            for (int dst = 1; dst <= 70; dst++) {
+                ResampleTable table = ResampleTable.area(src, dst);
+                for (int i = 0; i < dst; i++) {
+                    assertTrue(table.count[i] >= 1);
+                    assertTrue(table.first[i] >= 0 && table.first[i] + table.count[i] <= src,
+                        src + "->" + dst + " tap " + i);
+                }
+            }
+        }
+    }
+    
+    @Test
+    void growingUsesOneNearestTap() {
+        ResampleTable table = ResampleTable.area(4, 16);
+        for (int i = 0; i < 16; i++) {
+            assertEquals(1, table.count[i]);
+            assertEquals(i / 4, table.first[i]);
+        }
+    }
+    
+    @Test
+    void halvingAveragesPairs() {
+        ResampleTable table = ResampleTable.area(8, 4);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(2, table.count[i]);
+            assertEquals(2 * i, table.first[i]);
+            assertEquals(ResampleTable.WEIGHT_ONE / 2, table.weights[table.offset[i]]);
+        }
+    }
+}
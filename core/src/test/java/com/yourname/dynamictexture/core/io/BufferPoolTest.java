@@ -0,0 +1,57 @@
+package com.yourname.dynamictexture.core.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BufferPoolTest {
+    
+    @Test
+    void roundsUpAndLimitsToRequest() {
+        BufferPool pool = new BufferPool(1 << 20, 2);
+        ByteBuffer buffer = pool.acquire(5000);
+        assertTrue(buffer.isDirect());
+        assertEquals(8192, buffer.capacity());
+        assertEquals(5000, buffer.limit());
+        assertEquals(0, buffer.position());
+    }
+    
+    @Test
+    void reusesReleasedBuffers() {
+        BufferPool pool = new BufferPool(1 << 20, 2);
+        ByteBuffer buffer = pool.acquire(5000);
+        buffer.put((byte) 1);
+        pool.release(buffer);
+        
+        ByteBuffer reused = pool.acquire(6000);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(6000, reused.limit());
+    }
+    
+    @Test
+    void keepsAtMostPerBucket() {
+        BufferPool pool = new BufferPool(1 << 20, 1);
+        ByteBuffer first = pool.acquire(4096);
+        ByteBuffer second = pool.acquire(4096);
+        pool.release(first);
+        pool.release(second);
+        
+        assertSame(first, pool.acquire(4096));
+        assertNotSame(second, pool.acquire(4096));
+    }
+    
+    @Test
+    void doesNotPoolOversizedBuffers() {
+        BufferPool pool = new BufferPool(8192, 4);
+        ByteBuffer large = pool.acquire(10000);
+        assertEquals(10000, large.capacity());
+        pool.release(large);
+        assertNotSame(large, pool.acquire(10000));
+    }
+}
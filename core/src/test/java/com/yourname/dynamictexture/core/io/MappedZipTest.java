@@ -0,0 +1,97 @@
+package com.yourname.dynamictexture.core.io;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedZipTest {
+    @TempDir
+    Path dir;
+    
+    private final BufferPool pool = new BufferPool(64 * 1024, 4);
+    private final byte[] storedData = bytes(5000, 1);
+    private final byte[] deflatedData = bytes(70000, 2);
+    private Path archive;
+    
+    @BeforeEach
+    void writeArchive() throws IOException {
+        archive = dir.resolve("pack.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("assets/"));
+            zip.closeEntry();
+            
+            ZipEntry stored = new ZipEntry("assets/stored.png");
+            CRC32 crc = new CRC32();
+            crc.update(storedData);
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(storedData.length);
+            stored.setCrc(crc.getValue());
+            zip.putNextEntry(stored);
+            zip.write(storedData);
+            zip.closeEntry();
+            
+            zip.putNextEntry(new ZipEntry("assets/deflated.png"));
+            zip.write(deflatedData);
+            zip.closeEntry();
+            zip.setComment("trailing comment");
+        }
+    }
+    
+    @Test
+    void readsStoredAndDeflatedEntries() throws IOException {
+        try (MappedZip zip = MappedZip.open(archive)) {
+            assertEquals(2, zip.size());
+            assertFalse(zip.contains("assets/"));
+            
+            try (ResourceBytes bytes = zip.read("assets/stored.png", pool)) {
+                assertTrue(bytes.isMapped());
+                assertArrayEquals(storedData, bytes.toByteArray());
+            }
+            try (ResourceBytes bytes = zip.read("assets/deflated.png", pool)) {
+                assertFalse(bytes.isMapped());
+                assertArrayEquals(deflatedData, bytes.toByteArray());
+            }
+            assertNull(zip.read("assets/missing.png", pool));
+        }
+    }
+    
+    @Test
+    void entriesReadBeforeCloseStayValid() throws IOException {
+        MappedZip zip = MappedZip.open(archive);
+        try (ResourceBytes bytes = zip.read("assets/stored.png", pool)) {
+            zip.close();
+            assertArrayEquals(storedData, bytes.toByteArray());
+        }
+        assertThrows(IOException.class, () -> zip.read("assets/stored.png", pool));
+    }
+    
+    @Test
+    void rejectsNonZipFiles() throws IOException {
+        Path file = dir.resolve("not.zip");
+        Files.write(file, bytes(100, 3));
+        assertThrows(ZipException.class, () -> MappedZip.open(file));
+    }
+    
+    private static byte[] bytes(int length, int seed) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i % 251 == 0 ? i * seed : i / 64 + seed);
+        }
+        return data;
+    }
+}
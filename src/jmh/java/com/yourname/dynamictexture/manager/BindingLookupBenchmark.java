@@ -0,0 +1,78 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.nbt.NbtCompound;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TextureManager#getCustomTexture} on a hotbar-sized mix of
+ * plain, textured and modelled stacks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindingLookupBenchmark {
+    private static final int STACKS = 36;
+    
+    private TextureManager textureManager;
+    private ItemStack[] stacks;
+    private int cursor;
+    
+    @Setup
+    public void setup() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        
+        DynamicTextureLoader.bindingRegistry = new BindingRegistry();
+        textureManager = new TextureManager();
+        
+        stacks = new ItemStack[STACKS];
+        for (int i = 0; i < STACKS; i++) {
+            ItemStack stack = new ItemStack(i % 2 == 0 ? Items.DIAMOND_SWORD : Items.STICK);
+            
+            // A third plain, a third texture only, a third texture and model
+            if (i % 3 != 0) {
+                NbtCompound customData = new NbtCompound();
+                customData.putString("pack", "file/bench_pack");
+                customData.putString("namespace", "bench");
+                customData.putString("texture", "texture_" + (i % 8));
+                if (i % 3 == 2) {
+                    customData.putString("model", "item/model_" + (i % 4));
+                }
+                stack.getOrCreateNbt().put("DynamicTexture", customData);
+                stack.getOrCreateNbt().putInt("Damage", i);
+            }
+            stacks[i] = stack;
+        }
+        cursor = 0;
+    }
+    
+    @Benchmark
+    public Object memoized() {
+        ItemStack stack = stacks[cursor];
+        cursor = cursor + 1 == STACKS ? 0 : cursor + 1;
+        return textureManager.getCustomTexture(stack);
+    }
+    
+    /**
+     * Equal data on a new stack, as after a slot sync; includes the copy
+     */
+    @Benchmark
+    public Object freshStack() {
+        ItemStack stack = stacks[cursor].copy();
+        cursor = cursor + 1 == STACKS ? 0 : cursor + 1;
+        return textureManager.getCustomTexture(stack);
+    }
+}
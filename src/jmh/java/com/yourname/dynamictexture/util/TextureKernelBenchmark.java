@@ -0,0 +1,91 @@
+package com.yourname.dynamictexture.util;
+
+import net.minecraft.client.texture.NativeImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pixel kernels of {@link TextureHelper} on item, pack and high-res sized images.
+ * Mixins aren't applied under JMH, so image transfer takes the per-pixel fallback
+ * of {@link NativeImagePixels}; see core PixelKernelsBenchmark for the kernels alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextureKernelBenchmark {
+    
+    @Param({"16", "128", "512"})
+    public int size;
+    
+    private NativeImage source;
+    private NativeImage overlay;
+    
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        source = randomImage(random, size);
+        overlay = randomImage(random, size);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        source.close();
+        overlay.close();
+    }
+    
+    @Benchmark
+    public int tint() {
+        return consume(TextureHelper.createTintedTexture(source, 0xFF8040));
+    }
+    
+    @Benchmark
+    public int grayscale() {
+        return consume(TextureHelper.createGrayscaleTexture(source));
+    }
+    
+    @Benchmark
+    public int resizeHalf() {
+        return consume(TextureHelper.resizeTexture(source, size / 2, size / 2));
+    }
+    
+    @Benchmark
+    public int blend() {
+        return consume(TextureHelper.blendTextures(source, overlay, 0.5f));
+    }
+    
+    @Benchmark
+    public int averageColor() {
+        return TextureHelper.getAverageColor(source);
+    }
+    
+    /**
+     * Read one pixel so the result is used, then free the native memory
+     */
+    private static int consume(NativeImage image) {
+        int pixel = image.getColor(0, 0);
+        image.close();
+        return pixel;
+    }
+    
+    private static NativeImage randomImage(Random random, int size) {
+        NativeImage image = new NativeImage(size, size, false);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                // Mix of opaque, translucent and transparent pixels
+                int alpha = random.nextInt(4) == 0 ? 0 : 0x80 + random.nextInt(0x80);
+                image.setColor(x, y, (alpha << 24) | (random.nextInt() & 0xFFFFFF));
+            }
+        }
+        return image;
+    }
+}
@@ -1,23 +1,30 @@
 package com.yourname.dynamictexture;
 
+import com.yourname.dynamictexture.client.HeldItemBenchmark;
 import com.yourname.dynamictexture.client.KeyBindings;
 import com.yourname.dynamictexture.client.gui.ResourcePackScreen;
 import com.yourname.dynamictexture.client.renderer.AnimationHandler;
 import com.yourname.dynamictexture.client.renderer.CustomItemRenderer;
+import com.yourname.dynamictexture.client.renderer.MissingResourceCache;
 import com.yourname.dynamictexture.client.renderer.ModelCache;
+import com.yourname.dynamictexture.client.renderer.RenderStats;
+import com.yourname.dynamictexture.client.renderer.RetexturedModelCache;
 import com.yourname.dynamictexture.client.renderer.TextureAtlasManager;
 import com.yourname.dynamictexture.config.ModConfig;
+import com.yourname.dynamictexture.core.image.PixelKernels;
+import com.yourname.dynamictexture.manager.BindingRegistry;
 import com.yourname.dynamictexture.manager.ProfileManager;
 import com.yourname.dynamictexture.manager.ResourcePackManager;
+import com.yourname.dynamictexture.manager.TextureIndex;
 import com.yourname.dynamictexture.manager.TextureManager;
+import com.yourname.dynamictexture.manager.TextureReloadListener;
+import com.yourname.dynamictexture.util.ThumbnailCache;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
-import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.resource.ResourceManager;
 import net.minecraft.resource.ResourceType;
-import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,6 +36,8 @@ public class DynamicTextureLoader implements ClientModInitializer {
     public static ResourcePackManager resourcePackManager;
     public static TextureManager textureManager;
     public static ProfileManager profileManager;
+    public static BindingRegistry bindingRegistry;
+    public static TextureIndex textureIndex;
     public static ModConfig config;
     
     // Renderers
@@ -36,6 +45,8 @@ public class DynamicTextureLoader implements ClientModInitializer {
     public static CustomItemRenderer customItemRenderer;
     public static AnimationHandler animationHandler;
     public static TextureAtlasManager textureAtlasManager;
+    public static MissingResourceCache missingResourceCache;
+    public static RetexturedModelCache retexturedModelCache;
     
     @Override
     public void onInitializeClient() {
@@ -43,21 +54,32 @@ public class DynamicTextureLoader implements ClientModInitializer {
         
         // Initialize managers
         resourcePackManager = new ResourcePackManager();
+        bindingRegistry = new BindingRegistry();
+        textureIndex = new TextureIndex();
         textureManager = new TextureManager();
         profileManager = new ProfileManager();
         config = ModConfig.load();
+        PixelKernels.setParallelThreshold(config.parallelPixelThreshold);
         
         // Initialize renderers
         modelCache = new ModelCache(config.cacheSize);
         customItemRenderer = CustomItemRenderer.getInstance();
         animationHandler = AnimationHandler.getInstance();
         textureAtlasManager = TextureAtlasManager.getInstance();
+        missingResourceCache = MissingResourceCache.getInstance();
+        retexturedModelCache = RetexturedModelCache.getInstance();
         
         // Register keybindings
         KeyBindings.register();
         
+        // Register debug commands (dev environment or debugCommands only)
+        HeldItemBenchmark.register();
+        
         // Register tick event for keybind handling
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            textureAtlasManager.tick();
+            RenderStats.getInstance().tick();
+            
             while (KeyBindings.OPEN_MENU.wasPressed()) {
                 if (client.currentScreen == null) {
                     client.setScreen(new ResourcePackScreen(null));
@@ -65,37 +87,24 @@ public class DynamicTextureLoader implements ClientModInitializer {
             }
         });
         
+        // Flush the thumbnail cache file on exit
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> ThumbnailCache.getInstance().close());
+        
         // Register resource reload listener
         registerResourceReloadListener();
         
+        LOGGER.info("Pixel kernels: {}", PixelKernels.isVectorized()
+            ? "Vector API, " + PixelKernels.laneCount() + " lanes"
+            : "scalar (start with --add-modules=jdk.incubator.vector to vectorize)");
+        
         LOGGER.info("Dynamic Texture Loader initialized successfully!");
     }
     
     /**
-     * Register resource reload listener to clear caches
+     * Register the two-phase resource reload listener
      */
     private void registerResourceReloadListener() {
-        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(
-            new SimpleSynchronousResourceReloadListener() {
-                @Override
-                public Identifier getFabricId() {
-                    return Identifier.of(MOD_ID, "resource_reload");
-                }
-                
-                @Override
-                public void reload(ResourceManager manager) {
-                    LOGGER.info("Resource packs reloaded, clearing caches...");
-                    
-                    // Clear all caches
-                    modelCache.clear();
-                    customItemRenderer.clearCache();
-                    animationHandler.clearCache();
-                    textureAtlasManager.clearCache();
-                    
-                    LOGGER.info("Caches cleared successfully");
-                }
-            }
-        );
+        ResourceManagerHelper.get(ResourceType.CLIENT_RESOURCES).registerReloadListener(new TextureReloadListener());
     }
     
     public static MinecraftClient getClient() {
@@ -0,0 +1,199 @@
+package com.yourname.dynamictexture.client;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandManager;
+import net.fabricmc.fabric.api.client.command.v2.ClientCommandRegistrationCallback;
+import net.fabricmc.fabric.api.client.command.v2.FabricClientCommandSource;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.VertexConsumerProvider;
+import net.minecraft.client.render.entity.EntityRenderDispatcher;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.text.Text;
+
+/**
+ * In-game benchmark for entity held-item rendering.
+ * Builds N client-side zombies, each holding its own copy of the player's stack,
+ * and draws them through the EntityRenderDispatcher into a discarding vertex
+ * consumer, so every frame runs the real entity, HeldItemFeatureRenderer and
+ * HeldItemRenderer path on the CPU. Runs once with the held item's custom
+ * binding and once with it stripped (vanilla), and reports the per-frame cost of both.
+ *
+ * Debug tool: only registered in a development environment or with
+ * {@code debugCommands} enabled in the config.
+ *
+ * Usage: {@code /dynamictexture bench held <entities>}
+ */
+public class HeldItemBenchmark {
+    private static final int WARMUP_FRAMES = 50;
+    private static final int MEASURED_FRAMES = 200;
+    private static final int FULL_BRIGHT = 15728880;
+    // Entities stand on a grid this many blocks apart, in front of the player
+    private static final int GRID_SPACING = 2;
+    
+    public static void register() {
+        if (!FabricLoader.getInstance().isDevelopmentEnvironment() && !DynamicTextureLoader.config.debugCommands) {
+            return;
+        }
+        
+        ClientCommandRegistrationCallback.EVENT.register((dispatcher, registryAccess) -> dispatcher.register(
+            ClientCommandManager.literal(DynamicTextureLoader.MOD_ID)
+                .then(ClientCommandManager.literal("bench")
+                    .then(ClientCommandManager.literal("held")
+                        .then(ClientCommandManager.argument("entities", IntegerArgumentType.integer(1, 1000))
+                            .executes(context -> run(
+                                context.getSource(),
+                                IntegerArgumentType.getInteger(context, "entities")
+                            )))))
+        ));
+    }
+    
+    private static int run(FabricClientCommandSource source, int entities) {
+        ItemStack held = source.getPlayer().getMainHandStack();
+        
+        if (DynamicTextureLoader.textureManager.getBinding(held) == null) {
+            source.sendError(Text.literal("Hold an item with a custom texture to benchmark"));
+            return 0;
+        }
+        
+        Result result = measure(held, entities);
+        source.sendFeedback(Text.literal(result.toString()));
+        DynamicTextureLoader.LOGGER.info("Held item benchmark: {}", result);
+        return 1;
+    }
+    
+    /**
+     * Measure per-frame held-item cost for entities holding custom and vanilla stacks
+     */
+    public static Result measure(ItemStack template, int entities) {
+        ClientWorld world = MinecraftClient.getInstance().world;
+        
+        // One stack per entity, like N players each holding their own copy
+        ZombieEntity[] custom = new ZombieEntity[entities];
+        ZombieEntity[] vanilla = new ZombieEntity[entities];
+        for (int i = 0; i < entities; i++) {
+            ItemStack stripped = template.copy();
+            NbtCompound nbt = stripped.getNbt();
+            if (nbt != null) {
+                nbt.remove("DynamicTexture");
+            }
+            custom[i] = createHolder(world, template.copy());
+            vanilla[i] = createHolder(world, stripped);
+        }
+        
+        long vanillaNanos = timeFrames(vanilla);
+        long customNanos = timeFrames(custom);
+        return new Result(entities, vanillaNanos, customNanos);
+    }
+    
+    /**
+     * Client-side zombie holding a stack; never added to the world
+     */
+    private static ZombieEntity createHolder(ClientWorld world, ItemStack stack) {
+        ZombieEntity entity = new ZombieEntity(EntityType.ZOMBIE, world);
+        entity.equipStack(EquipmentSlot.MAINHAND, stack);
+        return entity;
+    }
+    
+    /**
+     * Average nanoseconds per frame to draw every entity once
+     */
+    private static long timeFrames(ZombieEntity[] entities) {
+        EntityRenderDispatcher dispatcher = MinecraftClient.getInstance().getEntityRenderDispatcher();
+        MatrixStack matrices = new MatrixStack();
+        int columns = (int) Math.ceil(Math.sqrt(entities.length));
+        long total = 0;
+        
+        for (int frame = 0; frame < WARMUP_FRAMES + MEASURED_FRAMES; frame++) {
+            long start = System.nanoTime();
+            
+            for (int i = 0; i < entities.length; i++) {
+                double x = (i % columns - columns / 2) * GRID_SPACING;
+                double z = (i / columns + 2) * GRID_SPACING;
+                dispatcher.render(
+                    entities[i], x, 0.0, z, 0.0f, 1.0f, matrices, DiscardingConsumer.PROVIDER, FULL_BRIGHT
+                );
+            }
+            
+            if (frame >= WARMUP_FRAMES) {
+                total += System.nanoTime() - start;
+            }
+        }
+        
+        return total / MEASURED_FRAMES;
+    }
+    
+    /**
+     * Vertex consumer that drops everything, so only CPU-side cost is measured
+     */
+    private static class DiscardingConsumer implements VertexConsumer {
+        static final DiscardingConsumer INSTANCE = new DiscardingConsumer();
+        static final VertexConsumerProvider PROVIDER = layer -> INSTANCE;
+        
+        @Override
+        public VertexConsumer vertex(float x, float y, float z) {
+            return this;
+        }
+        
+        @Override
+        public VertexConsumer color(int red, int green, int blue, int alpha) {
+            return this;
+        }
+        
+        @Override
+        public VertexConsumer texture(float u, float v) {
+            return this;
+        }
+        
+        @Override
+        public VertexConsumer overlay(int u, int v) {
+            return this;
+        }
+        
+        @Override
+        public VertexConsumer light(int u, int v) {
+            return this;
+        }
+        
+        @Override
+        public VertexConsumer normal(float x, float y, float z) {
+            return this;
+        }
+    }
+    
+    /**
+     * Benchmark result data class
+     */
+    public static class Result {
+        public final int entities;
+        public final long vanillaNanosPerFrame;
+        public final long customNanosPerFrame;
+        
+        public Result(int entities, long vanillaNanosPerFrame, long customNanosPerFrame) {
+            this.entities = entities;
+            this.vanillaNanosPerFrame = vanillaNanosPerFrame;
+            this.customNanosPerFrame = customNanosPerFrame;
+        }
+        
+        @Override
+        public String toString() {
+            double overhead = vanillaNanosPerFrame == 0 ? 0.0
+                : 100.0 * (customNanosPerFrame - vanillaNanosPerFrame) / vanillaNanosPerFrame;
+            return String.format(
+                "%d entities: vanilla %.1f us/frame, custom %.1f us/frame (%+.1f%%)",
+                entities,
+                vanillaNanosPerFrame / 1000.0,
+                customNanosPerFrame / 1000.0,
+                overhead
+            );
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.yourname.dynamictexture.client.gui.widgets;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.UploadScheduler;
+import com.yourname.dynamictexture.client.renderer.atlas.AtlasRegion;
+import com.yourname.dynamictexture.util.TextureHelper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.DrawContext;
 import net.minecraft.client.gui.Drawable;
@@ -12,18 +15,26 @@ import net.minecraft.client.render.*;
 import net.minecraft.client.render.item.ItemRenderer;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.texture.MissingSprite;
+import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
+import net.minecraft.screen.PlayerScreenHandler;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Quaternionf;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Widget to preview textures and models in the GUI
  */
 public class PreviewWidget implements Drawable, Element, Selectable {
+    private static final int THUMBNAIL_SIZE = 32;
+    
     private final MinecraftClient client;
     private final int x;
     private final int y;
@@ -41,6 +52,14 @@ public class PreviewWidget implements Drawable, Element, Selectable {
     private float rotation = 0.0f;
     private boolean autoRotate = true;
     
+    // Raw texture thumbnail, decoded off-thread
+    @Nullable
+    private CompletableFuture<NativeImage> pendingThumbnail = null;
+    @Nullable
+    private AtlasRegion thumbnail = null;
+    @Nullable
+    private String thumbnailName = null;
+    
     public PreviewWidget(int x, int y, int width, int height) {
         this.client = MinecraftClient.getInstance();
         this.x = x;
@@ -58,6 +77,7 @@ public class PreviewWidget implements Drawable, Element, Selectable {
         this.hasError = false;
         this.errorMessage = null;
         validateTexture();
+        requestThumbnail();
     }
     
     /**
@@ -96,10 +116,9 @@ public class PreviewWidget implements Drawable, Element, Selectable {
         }
         
         try {
-            Identifier textureId = Identifier.of(namespace, "textures/item/" + textureName + ".png");
+            Identifier textureId = TextureHelper.getTextureIdentifier(namespace, textureName);
             
-            // Try to get texture from resource manager
-            if (client.getResourceManager().getResource(textureId).isEmpty()) {
+            if (!TextureHelper.textureExists(namespace, textureName)) {
                 hasError = true;
                 errorMessage = "Texture not found!";
                 DynamicTextureLoader.LOGGER.warn("Texture not found: {}", textureId);
@@ -113,6 +132,53 @@ public class PreviewWidget implements Drawable, Element, Selectable {
         }
     }
     
+    /**
+     * Decode thumbnail on the decode pool; a placeholder is drawn until it arrives
+     */
+    private void requestThumbnail() {
+        releaseThumbnail();
+        
+        if (hasError || textureName == null || textureName.isEmpty()) {
+            return;
+        }
+        
+        String name = "preview/" + namespace + "/" + textureName;
+        CompletableFuture<NativeImage> future = TextureHelper.createThumbnailAsync(namespace, textureName, THUMBNAIL_SIZE);
+        pendingThumbnail = future;
+        
+        // Completes on the render thread
+        future.thenAccept(image -> {
+            if (image == null) {
+                return;
+            }
+            try {
+                if (pendingThumbnail == future) {
+                    thumbnail = TextureHelper.registerAtlasTexture(name, image, UploadScheduler.Priority.VISIBLE);
+                    thumbnailName = name;
+                    pendingThumbnail = null;
+                }
+            } finally {
+                image.close();
+            }
+        });
+    }
+    
+    /**
+     * Cancel pending thumbnail and free the current one
+     */
+    private void releaseThumbnail() {
+        if (pendingThumbnail != null) {
+            pendingThumbnail.cancel(false);
+            pendingThumbnail = null;
+        }
+        
+        if (thumbnailName != null) {
+            TextureHelper.unregisterAtlasTexture(thumbnailName);
+            thumbnailName = null;
+        }
+        thumbnail = null;
+    }
+    
     /**
      * Validate if model exists
      */
@@ -225,6 +291,31 @@ public class PreviewWidget implements Drawable, Element, Selectable {
         
         // Draw grid background
         renderGrid(context);
+        
+        // Draw raw texture thumbnail
+        renderThumbnail(context);
+    }
+    
+    /**
+     * Render texture thumbnail, or a placeholder sprite while it decodes
+     */
+    private void renderThumbnail(DrawContext context) {
+        if (textureName == null) {
+            return;
+        }
+        
+        int thumbX = x + 5;
+        int thumbY = y + 20;
+        
+        if (thumbnail != null && thumbnail.isValid()) {
+            DynamicTextureLoader.textureAtlasManager.drawRegion(
+                context, thumbnail, thumbX, thumbY, THUMBNAIL_SIZE, THUMBNAIL_SIZE
+            );
+        } else {
+            Sprite placeholder = client.getSpriteAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE)
+                .apply(MissingSprite.getMissingSpriteId());
+            context.drawSprite(thumbX, thumbY, 0, THUMBNAIL_SIZE, THUMBNAIL_SIZE, placeholder);
+        }
     }
     
     /**
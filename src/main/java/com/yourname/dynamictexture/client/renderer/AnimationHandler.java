@@ -1,13 +1,17 @@
 package com.yourname.dynamictexture.client.renderer;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.anim.AnimationMetadata;
+import com.yourname.dynamictexture.manager.TextureBinding;
+import com.yourname.dynamictexture.manager.TextureIndex;
+import com.yourname.dynamictexture.util.TextureEvents;
+import com.yourname.dynamictexture.util.TextureHelper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.resource.Resource;
 import net.minecraft.util.Identifier;
 
 import java.io.InputStreamReader;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,20 +42,53 @@ public class AnimationHandler {
             return animationCache.get(key);
         }
         
-        // Load .mcmeta file
+        // Load .mcmeta file; textures without one are cached as null until the next reload
         AnimationData data = loadAnimationData(namespace, textureName);
-        
-        if (data != null) {
-            animationCache.put(key, data);
-        }
+        animationCache.put(key, data);
         
         return data;
     }
     
+    /**
+     * Get animation data for binding, resolving it once per reload
+     */
+    public AnimationData getAnimationData(TextureBinding binding) {
+        if (!binding.animationResolved) {
+            binding.animation = getAnimationData(binding.data.namespace, binding.data.texture);
+            binding.animationResolved = true;
+        }
+        return binding.animation;
+    }
+    
     /**
      * Load animation data from .mcmeta file
      */
     private AnimationData loadAnimationData(String namespace, String textureName) {
+        TextureEvents.AnimationLoad event = TextureEvents.AnimationLoad.start();
+        AnimationData data = readAnimationData(namespace, textureName);
+        
+        if (event != null) {
+            event.resource = namespace + ":" + textureName;
+            event.animated = data != null;
+            event.commit();
+        }
+        
+        return data;
+    }
+    
+    /**
+     * Read and parse the .mcmeta file next to a texture, or take it from the texture index
+     */
+    private AnimationData readAnimationData(String namespace, String textureName) {
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        if (index.isReady()) {
+            TextureIndex.Entry entry = index.get(Identifier.of(namespace, "textures/item/" + textureName + ".png"));
+            if (entry == null || entry.animation == null) {
+                return null;
+            }
+            return new AnimationData(entry.animation.frametime, entry.animation.interpolate);
+        }
+        
         try {
             Identifier mcmetaId = Identifier.of(
                 namespace,
@@ -68,23 +105,15 @@ public class AnimationHandler {
             Resource resource = resourceOpt.get();
             
             try (InputStreamReader reader = new InputStreamReader(resource.getInputStream())) {
-                JsonObject json = JsonParser.parseReader(reader).getAsJsonObject();
+                AnimationMetadata metadata = AnimationMetadata.parse(reader);
                 
-                if (json.has("animation")) {
-                    JsonObject animation = json.getAsJsonObject("animation");
-                    
-                    int frametime = animation.has("frametime") ? 
-                        animation.get("frametime").getAsInt() : 1;
-                    
-                    boolean interpolate = animation.has("interpolate") ? 
-                        animation.get("interpolate").getAsBoolean() : false;
-                    
+                if (metadata != null) {
                     DynamicTextureLoader.LOGGER.info(
                         "Loaded animation data for {}: frametime={}, interpolate={}",
-                        textureName, frametime, interpolate
+                        textureName, metadata.frametime, metadata.interpolate
                     );
                     
-                    return new AnimationData(frametime, interpolate);
+                    return new AnimationData(metadata.frametime, metadata.interpolate);
                 }
             }
         } catch (Exception e) {
@@ -117,6 +146,15 @@ public class AnimationHandler {
         return currentFrame;
     }
     
+    /**
+     * Drop cached animation data for the given texture ids
+     */
+    public void invalidate(Collection<Identifier> textureIds) {
+        for (Identifier textureId : textureIds) {
+            animationCache.remove(textureId.getNamespace() + ":" + TextureHelper.getTextureName(textureId));
+        }
+    }
+    
     /**
      * Clear animation cache
      */
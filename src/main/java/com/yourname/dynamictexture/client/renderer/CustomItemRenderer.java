@@ -1,33 +1,31 @@
 package com.yourname.dynamictexture.client.renderer;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import com.yourname.dynamictexture.DynamicTextureLoader;
-import com.yourname.dynamictexture.manager.TextureManager;
+import com.yourname.dynamictexture.manager.TextureBinding;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.render.VertexConsumerProvider;
-import net.minecraft.client.render.item.ItemRenderer;
 import net.minecraft.client.render.model.BakedModel;
-import net.minecraft.client.render.model.json.ModelTransformationMode;
 import net.minecraft.client.texture.Sprite;
-import net.minecraft.client.util.ModelIdentifier;
-import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Custom item renderer for dynamic textures
  */
 public class CustomItemRenderer {
     private static final CustomItemRenderer INSTANCE = new CustomItemRenderer();
     private final MinecraftClient client;
-    private final Map<String, BakedModel> customModelCache = new HashMap<>();
+    private final MissingResourceCache missingCache;
+    private final RetexturedModelCache retexturedCache;
+    private final RenderStats stats;
+    
+    // Set while an entity's held item is being drawn
+    private int heldItemDepth = 0;
     
     private CustomItemRenderer() {
         this.client = MinecraftClient.getInstance();
+        this.missingCache = MissingResourceCache.getInstance();
+        this.retexturedCache = RetexturedModelCache.getInstance();
+        this.stats = RenderStats.getInstance();
     }
     
     public static CustomItemRenderer getInstance() {
@@ -35,218 +33,102 @@ public class CustomItemRenderer {
     }
     
     /**
-     * Render item with custom texture/model
+     * Resolve the model to draw for a stack.
+     * Returns the custom model, the original model retextured onto the
+     * binding's sprite, or the original model when there is no binding.
      */
-    public void renderCustomItem(
-        ItemStack stack,
-        ModelTransformationMode renderMode,
-        boolean leftHanded,
-        MatrixStack matrices,
-        VertexConsumerProvider vertexConsumers,
-        int light,
-        int overlay,
-        BakedModel originalModel
-    ) {
-        // Get custom texture data
-        TextureManager.CustomTextureData customData = 
-            DynamicTextureLoader.textureManager.getCustomTexture(stack);
+    public BakedModel resolveModel(ItemStack stack, BakedModel originalModel) {
+        long start = System.nanoTime();
+        TextureBinding binding = DynamicTextureLoader.textureManager.getBinding(stack);
         
-        if (customData == null) {
-            // No custom data, use original rendering
-            renderOriginal(stack, renderMode, leftHanded, matrices, vertexConsumers, light, overlay, originalModel);
-            return;
+        if (binding == null) {
+            stats.nanos.add(System.nanoTime() - start);
+            return originalModel;
         }
         
-        // Get or create custom model
-        BakedModel customModel = getCustomModel(customData, originalModel);
+        stats.resolutions.increment();
+        if (heldItemDepth > 0) {
+            stats.heldItems.increment();
+        }
         
-        if (customModel != null && customModel != originalModel) {
-            // Render with custom model
-            renderWithCustomModel(stack, renderMode, leftHanded, matrices, vertexConsumers, light, overlay, customModel);
-        } else {
-            // Fallback to texture-only rendering
-            renderWithCustomTexture(stack, renderMode, leftHanded, matrices, vertexConsumers, light, overlay, originalModel, customData);
+        BakedModel model = getCustomModel(binding);
+        if (model == null) {
+            model = getRetexturedModel(binding, originalModel);
+            if (model == originalModel) {
+                stats.fallbacks.increment();
+            }
         }
+        
+        stats.nanos.add(System.nanoTime() - start);
+        return model;
+    }
+    
+    /**
+     * Mark start of an entity held-item draw
+     */
+    public void beginHeldItem() {
+        heldItemDepth++;
+    }
+    
+    /**
+     * Mark end of an entity held-item draw
+     */
+    public void endHeldItem() {
+        if (heldItemDepth > 0) {
+            heldItemDepth--;
+        }
+    }
+    
+    /**
+     * Get original model remapped onto the binding's atlas sprite
+     */
+    private BakedModel getRetexturedModel(TextureBinding binding, BakedModel originalModel) {
+        Sprite sprite = DynamicTextureLoader.textureAtlasManager.getSprite(binding);
+        
+        if (sprite == null) {
+            return originalModel;
+        }
+        
+        return retexturedCache.get(originalModel, sprite);
     }
     
     /**
      * Get or load custom model
      */
     @Nullable
-    private BakedModel getCustomModel(TextureManager.CustomTextureData data, BakedModel fallback) {
-        if (data.model == null || data.model.isEmpty()) {
+    private BakedModel getCustomModel(TextureBinding binding) {
+        if (!binding.hasModel()) {
             return null;
         }
         
-        String cacheKey = data.namespace + ":" + data.model;
+        // Check resolved handle
+        if (binding.model != null) {
+            return binding.model;
+        }
         
-        // Check cache
-        if (customModelCache.containsKey(cacheKey)) {
-            return customModelCache.get(cacheKey);
+        if (missingCache.isMissing(binding.modelId)) {
+            return null;
         }
         
         try {
             // Try to get model from model manager
-            Identifier modelId = Identifier.of(data.namespace, data.model);
-            ModelIdentifier modelIdentifier = new ModelIdentifier(modelId, "inventory");
-            
-            BakedModel model = client.getBakedModelManager().getModel(modelIdentifier);
+            BakedModel model = client.getBakedModelManager().getModel(binding.modelId);
             
             if (model != null && model != client.getBakedModelManager().getMissingModel()) {
-                customModelCache.put(cacheKey, model);
-                DynamicTextureLoader.LOGGER.info("Loaded custom model: {}", cacheKey);
+                binding.model = model;
+                DynamicTextureLoader.LOGGER.info("Loaded custom model: {}", binding.modelId);
                 return model;
             } else {
-                DynamicTextureLoader.LOGGER.warn("Custom model not found: {}", cacheKey);
+                if (missingCache.markMissing(binding.modelId)) {
+                    DynamicTextureLoader.LOGGER.warn("Custom model not found: {}", binding.modelId);
+                }
                 return null;
             }
         } catch (Exception e) {
-            DynamicTextureLoader.LOGGER.error("Failed to load custom model: " + cacheKey, e);
-            return null;
-        }
-    }
-    
-    /**
-     * Render with custom model
-     */
-    private void renderWithCustomModel(
-        ItemStack stack,
-        ModelTransformationMode renderMode,
-        boolean leftHanded,
-        MatrixStack matrices,
-        VertexConsumerProvider vertexConsumers,
-        int light,
-        int overlay,
-        BakedModel model
-    ) {
-        ItemRenderer itemRenderer = client.getItemRenderer();
-        
-        matrices.push();
-        
-        try {
-            // Apply transformations based on render mode
-            applyTransformations(matrices, renderMode, leftHanded);
-            
-            // Render the model
-            itemRenderer.renderItem(
-                stack,
-                renderMode,
-                leftHanded,
-                matrices,
-                vertexConsumers,
-                light,
-                overlay,
-                model
-            );
-        } catch (Exception e) {
-            DynamicTextureLoader.LOGGER.error("Error rendering custom model", e);
-        } finally {
-            matrices.pop();
-        }
-    }
-    
-    /**
-     * Render with custom texture only (no model change)
-     */
-    private void renderWithCustomTexture(
-        ItemStack stack,
-        ModelTransformationMode renderMode,
-        boolean leftHanded,
-        MatrixStack matrices,
-        VertexConsumerProvider vertexConsumers,
-        int light,
-        int overlay,
-        BakedModel model,
-        TextureManager.CustomTextureData data
-    ) {
-        // Bind custom texture
-        Identifier textureId = Identifier.of(
-            data.namespace,
-            "textures/item/" + data.texture + ".png"
-        );
-        
-        try {
-            // Check if texture exists
-            if (client.getResourceManager().getResource(textureId).isPresent()) {
-                RenderSystem.setShaderTexture(0, textureId);
-                DynamicTextureLoader.LOGGER.debug("Rendering with custom texture: {}", textureId);
-            } else {
-                DynamicTextureLoader.LOGGER.warn("Custom texture not found: {}", textureId);
+            if (missingCache.markMissing(binding.modelId)) {
+                DynamicTextureLoader.LOGGER.error("Failed to load custom model: " + binding.modelId, e);
             }
-        } catch (Exception e) {
-            DynamicTextureLoader.LOGGER.error("Error binding custom texture", e);
-        }
-        
-        // Render with original model but custom texture
-        renderOriginal(stack, renderMode, leftHanded, matrices, vertexConsumers, light, overlay, model);
-    }
-    
-    /**
-     * Render with original renderer
-     */
-    private void renderOriginal(
-        ItemStack stack,
-        ModelTransformationMode renderMode,
-        boolean leftHanded,
-        MatrixStack matrices,
-        VertexConsumerProvider vertexConsumers,
-        int light,
-        int overlay,
-        BakedModel model
-    ) {
-        ItemRenderer itemRenderer = client.getItemRenderer();
-        
-        itemRenderer.renderItem(
-            stack,
-            renderMode,
-            leftHanded,
-            matrices,
-            vertexConsumers,
-            light,
-            overlay,
-            model
-        );
-    }
-    
-    /**
-     * Apply transformations based on render mode
-     */
-    private void applyTransformations(MatrixStack matrices, ModelTransformationMode mode, boolean leftHanded) {
-        switch (mode) {
-            case FIRST_PERSON_LEFT_HAND:
-            case FIRST_PERSON_RIGHT_HAND:
-                // First person hand rendering
-                matrices.scale(0.75f, 0.75f, 0.75f);
-                break;
-                
-            case THIRD_PERSON_LEFT_HAND:
-            case THIRD_PERSON_RIGHT_HAND:
-                // Third person hand rendering
-                matrices.scale(0.5f, 0.5f, 0.5f);
-                break;
-                
-            case GUI:
-                // GUI/inventory rendering
-                matrices.scale(1.0f, 1.0f, 1.0f);
-                break;
-                
-            case GROUND:
-                // Dropped item rendering
-                matrices.scale(0.5f, 0.5f, 0.5f);
-                break;
-                
-            case FIXED:
-                // Item frame rendering
-                matrices.scale(0.5f, 0.5f, 0.5f);
-                break;
-                
-            case HEAD:
-                // Head/helmet rendering
-                matrices.scale(1.0f, 1.0f, 1.0f);
-                break;
-                
-            default:
-                break;
+            return null;
         }
     }
     
@@ -254,7 +136,7 @@ public class CustomItemRenderer {
      * Clear model cache
      */
     public void clearCache() {
-        customModelCache.clear();
+        DynamicTextureLoader.bindingRegistry.resetHandles();
         DynamicTextureLoader.LOGGER.info("Custom model cache cleared");
     }
     
@@ -262,13 +144,19 @@ public class CustomItemRenderer {
      * Get cache size
      */
     public int getCacheSize() {
-        return customModelCache.size();
+        int count = 0;
+        for (TextureBinding binding : DynamicTextureLoader.bindingRegistry.getBindings()) {
+            if (binding.model != null) {
+                count++;
+            }
+        }
+        return count;
     }
     
     /**
      * Check if item has custom rendering
      */
     public boolean hasCustomRendering(ItemStack stack) {
-        return DynamicTextureLoader.textureManager.getCustomTexture(stack) != null;
+        return DynamicTextureLoader.textureManager.getBinding(stack) != null;
     }
                                                                     }
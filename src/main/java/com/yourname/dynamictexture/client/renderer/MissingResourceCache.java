@@ -0,0 +1,53 @@
+package com.yourname.dynamictexture.client.renderer;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers textures, sprites and models that failed to resolve,
+ * so a bad binding is probed and logged once per reload instead of every frame
+ */
+public class MissingResourceCache {
+    private static final MissingResourceCache INSTANCE = new MissingResourceCache();
+    private final Set<Object> missing = ConcurrentHashMap.newKeySet();
+    
+    private MissingResourceCache() {
+    }
+    
+    public static MissingResourceCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Check if resource is known to be missing
+     */
+    public boolean isMissing(Object id) {
+        return missing.contains(id);
+    }
+    
+    /**
+     * Record a missing resource.
+     * Returns true the first time, so callers only log once.
+     */
+    public boolean markMissing(Object id) {
+        return missing.add(id);
+    }
+    
+    /**
+     * Clear missing resources
+     */
+    public void clear() {
+        int count = missing.size();
+        missing.clear();
+        DynamicTextureLoader.LOGGER.info("Cleared {} missing resources from cache", count);
+    }
+    
+    /**
+     * Get cache size
+     */
+    public int size() {
+        return missing.size();
+    }
+}
@@ -1,14 +1,18 @@
 package com.yourname.dynamictexture.client.renderer;
 
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.cache.LRUCache;
+import com.yourname.dynamictexture.manager.TextureIndex;
+import com.yourname.dynamictexture.util.TextureEvents;
+import com.yourname.dynamictexture.util.TextureHelper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.render.model.BakedModel;
 import net.minecraft.client.util.ModelIdentifier;
 import net.minecraft.util.Identifier;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -21,6 +25,7 @@ public class ModelCache {
     private final LRUCache<String, BakedModel> modelCache;
     private final LRUCache<String, Identifier> textureCache;
     private final MinecraftClient client;
+    private final MissingResourceCache missingCache;
     
     public ModelCache() {
         this(DEFAULT_CACHE_SIZE);
@@ -31,6 +36,7 @@ public class ModelCache {
         this.modelCache = new LRUCache<>(size);
         this.textureCache = new LRUCache<>(size);
         this.client = MinecraftClient.getInstance();
+        this.missingCache = MissingResourceCache.getInstance();
     }
     
     /**
@@ -76,13 +82,24 @@ public class ModelCache {
             "textures/item/" + textureName + ".png"
         );
         
+        if (missingCache.isMissing(textureId)) {
+            return null;
+        }
+        
         // Verify texture exists
-        if (client.getResourceManager().getResource(textureId).isPresent()) {
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        boolean exists = index.isReady()
+            ? index.get(textureId) != null
+            : client.getResourceManager().getResource(textureId).isPresent();
+        
+        if (exists) {
             textureCache.put(key, textureId);
             DynamicTextureLoader.LOGGER.info("Texture cached: {}", key);
             return textureId;
         } else {
-            DynamicTextureLoader.LOGGER.warn("Texture not found: {}", textureId);
+            if (missingCache.markMissing(textureId)) {
+                DynamicTextureLoader.LOGGER.warn("Texture not found: {}", textureId);
+            }
             return null;
         }
     }
@@ -96,13 +113,27 @@ public class ModelCache {
             Identifier modelId = Identifier.of(namespace, modelName);
             ModelIdentifier modelIdentifier = new ModelIdentifier(modelId, "inventory");
             
+            if (missingCache.isMissing(modelIdentifier)) {
+                return null;
+            }
+            
+            TextureEvents.ModelLoad event = TextureEvents.ModelLoad.start();
             BakedModel model = client.getBakedModelManager().getModel(modelIdentifier);
+            boolean found = model != null && model != getMissingModel();
             
-            if (model != null && model != getMissingModel()) {
+            if (event != null) {
+                event.model = modelIdentifier.toString();
+                event.found = found;
+                event.commit();
+            }
+            
+            if (found) {
                 DynamicTextureLoader.LOGGER.debug("Loaded model: {}", modelIdentifier);
                 return model;
             } else {
-                DynamicTextureLoader.LOGGER.warn("Model not found or missing: {}", modelIdentifier);
+                if (missingCache.markMissing(modelIdentifier)) {
+                    DynamicTextureLoader.LOGGER.warn("Model not found or missing: {}", modelIdentifier);
+                }
                 return null;
             }
         } catch (Exception e) {
@@ -156,6 +187,24 @@ public class ModelCache {
         DynamicTextureLoader.LOGGER.info("Preloaded {}/{} textures", loaded, textures.size());
     }
     
+    /**
+     * Clear baked models only; they are rebuilt on every resource reload
+     */
+    public void clearModels() {
+        int modelCount = modelCache.size();
+        modelCache.clear();
+        DynamicTextureLoader.LOGGER.info("Cleared {} models from cache", modelCount);
+    }
+    
+    /**
+     * Drop cached texture lookups for the given texture ids
+     */
+    public void invalidateTextures(Collection<Identifier> textureIds) {
+        for (Identifier textureId : textureIds) {
+            textureCache.remove(textureId.getNamespace() + ":" + TextureHelper.getTextureName(textureId));
+        }
+    }
+    
     /**
      * Clear all caches
      */
@@ -196,7 +245,8 @@ public class ModelCache {
             modelCache.size(),
             modelCache.maxSize(),
             textureCache.size(),
-            textureCache.maxSize()
+            textureCache.maxSize(),
+            missingCache.size()
         );
     }
     
@@ -208,42 +258,25 @@ public class ModelCache {
         public final int modelCapacity;
         public final int textureCount;
         public final int textureCapacity;
+        public final int missingCount;
         
-        public CacheStats(int modelCount, int modelCapacity, int textureCount, int textureCapacity) {
+        public CacheStats(int modelCount, int modelCapacity, int textureCount, int textureCapacity, int missingCount) {
             this.modelCount = modelCount;
             this.modelCapacity = modelCapacity;
             this.textureCount = textureCount;
             this.textureCapacity = textureCapacity;
+            this.missingCount = missingCount;
         }
         
         @Override
         public String toString() {
             return String.format(
-                "Models: %d/%d, Textures: %d/%d",
+                "Models: %d/%d, Textures: %d/%d, Missing: %d",
                 modelCount, modelCapacity,
-                textureCount, textureCapacity
+                textureCount, textureCapacity,
+                missingCount
             );
         }
     }
-    
-    /**
-     * LRU Cache implementation
-     */
-    private static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-        private final int maxSize;
-        
-        public LRUCache(int maxSize) {
-            super(16, 0.75f, true); // Access order
-            this.maxSize = maxSize;
-        }
-        
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-            return size() > maxSize;
-        }
-        
-        public int maxSize() {
-            return maxSize;
-        }
-    }
           }
+        
\ No newline at end of file
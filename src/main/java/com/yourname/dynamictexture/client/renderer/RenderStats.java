@@ -0,0 +1,110 @@
+package com.yourname.dynamictexture.client.renderer;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.atlas.AtlasStats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Render-path counters, sampled into per-second rates for the F3 screen
+ */
+public class RenderStats {
+    private static final RenderStats INSTANCE = new RenderStats();
+    private static final long SAMPLE_INTERVAL_NANOS = 1_000_000_000L;
+    
+    public final LongAdder resolutions = new LongAdder();
+    public final LongAdder cacheHits = new LongAdder();
+    public final LongAdder cacheMisses = new LongAdder();
+    public final LongAdder fallbacks = new LongAdder();
+    public final LongAdder heldItems = new LongAdder();
+    public final LongAdder nanos = new LongAdder();
+    
+    private final LongAdder[] counters = {resolutions, cacheHits, cacheMisses, fallbacks, heldItems, nanos};
+    private final long[] lastTotals = new long[counters.length];
+    private final double[] rates = new double[counters.length];
+    private long lastSample = System.nanoTime();
+    
+    private RenderStats() {
+    }
+    
+    public static RenderStats getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Update per-second rates once a second has passed
+     */
+    public void tick() {
+        long now = System.nanoTime();
+        long elapsed = now - lastSample;
+        
+        if (elapsed < SAMPLE_INTERVAL_NANOS) {
+            return;
+        }
+        
+        double seconds = elapsed / 1_000_000_000.0;
+        for (int i = 0; i < counters.length; i++) {
+            long total = counters[i].sum();
+            rates[i] = (total - lastTotals[i]) / seconds;
+            lastTotals[i] = total;
+        }
+        lastSample = now;
+    }
+    
+    public double getResolutionRate() {
+        return rates[0];
+    }
+    
+    public double getHitRate() {
+        return rates[1];
+    }
+    
+    public double getMissRate() {
+        return rates[2];
+    }
+    
+    public double getFallbackRate() {
+        return rates[3];
+    }
+    
+    public double getHeldItemRate() {
+        return rates[4];
+    }
+    
+    /**
+     * Get milliseconds spent in the render path per second
+     */
+    public double getMillisPerSecond() {
+        return rates[5] / 1_000_000.0;
+    }
+    
+    /**
+     * Get lines for the F3 debug screen
+     */
+    public List<String> getDebugLines() {
+        List<String> lines = new ArrayList<>();
+        UploadScheduler uploads = UploadScheduler.getInstance();
+        AtlasStats atlas = DynamicTextureLoader.textureAtlasManager.getAtlasStats();
+        
+        lines.add("");
+        lines.add("[Dynamic Texture]");
+        lines.add(String.format(
+            "Resolve: %.0f/s, hit %.0f/s, miss %.0f/s, fallback %.0f/s, held %.0f/s",
+            getResolutionRate(), getHitRate(), getMissRate(), getFallbackRate(), getHeldItemRate()
+        ));
+        lines.add(String.format("Render path: %.2f ms/s", getMillisPerSecond()));
+        lines.add(String.format(
+            "Uploads: %d queued, %d last frame (%.2f ms)",
+            uploads.getQueueDepth(), uploads.getLastFrameUploads(), uploads.getLastFrameNanos() / 1_000_000.0
+        ));
+        lines.add(String.format(
+            "Atlas: %d pages, %d sprites, %d/%d KB, %.0f%% fragmented",
+            atlas.pageCount, atlas.regionCount,
+            atlas.capacityBytes / 1024, atlas.budgetBytes / 1024,
+            atlas.fragmentation * 100.0f
+        ));
+        return lines;
+    }
+}
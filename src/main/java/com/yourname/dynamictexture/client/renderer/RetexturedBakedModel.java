@@ -0,0 +1,167 @@
+package com.yourname.dynamictexture.client.renderer;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.render.model.BakedQuad;
+import net.minecraft.client.render.model.json.ModelOverrideList;
+import net.minecraft.client.render.model.json.ModelTransformation;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Baked model whose base layer quads are remapped onto another atlas sprite.
+ * Quads are rebuilt once at construction; everything else is delegated
+ * to the base model, so the item still renders through the vanilla
+ * item layer with no extra texture bind. Only models drawn from a single
+ * sprite can be retextured; see {@link #canRetexture}.
+ */
+public class RetexturedBakedModel implements BakedModel {
+    // BLOCK vertex format: x, y, z, color, u, v, light, normal
+    private static final int VERTEX_STRIDE = 8;
+    private static final int UV_OFFSET = 4;
+    private static final long QUAD_SEED = 42L;
+    
+    private final BakedModel base;
+    private final Sprite sprite;
+    // Sprite of the layer being replaced; quads from any other sprite are kept as they are
+    private final Sprite baseSprite;
+    private final List<BakedQuad> unculledQuads;
+    private final List<List<BakedQuad>> faceQuads = new ArrayList<>(Direction.values().length);
+    
+    public RetexturedBakedModel(BakedModel base, Sprite sprite) {
+        this.base = base;
+        this.sprite = sprite;
+        this.baseSprite = base.getParticleSprite();
+        
+        Random random = Random.create();
+        random.setSeed(QUAD_SEED);
+        this.unculledQuads = remapQuads(base.getQuads(null, null, random));
+        
+        for (Direction direction : Direction.values()) {
+            random.setSeed(QUAD_SEED);
+            faceQuads.add(remapQuads(base.getQuads(null, direction, random)));
+        }
+    }
+    
+    /**
+     * Whether a model draws every quad from one sprite.
+     * Multi-layer items such as overlays or tinted potions would lose their other layers,
+     * so those keep their own textures.
+     */
+    public static boolean canRetexture(BakedModel base) {
+        Sprite layer = base.getParticleSprite();
+        Random random = Random.create();
+        random.setSeed(QUAD_SEED);
+        if (!usesOnly(base.getQuads(null, null, random), layer)) {
+            return false;
+        }
+        
+        for (Direction direction : Direction.values()) {
+            random.setSeed(QUAD_SEED);
+            if (!usesOnly(base.getQuads(null, direction, random), layer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean usesOnly(List<BakedQuad> quads, Sprite layer) {
+        for (BakedQuad quad : quads) {
+            if (quad.getSprite() != layer) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Remap base layer quad UVs from their own sprite to the target sprite
+     */
+    private List<BakedQuad> remapQuads(List<BakedQuad> quads) {
+        if (quads.isEmpty()) {
+            return List.of();
+        }
+        
+        List<BakedQuad> remapped = new ArrayList<>(quads.size());
+        for (BakedQuad quad : quads) {
+            remapped.add(quad.getSprite() == baseSprite ? remapQuad(quad) : quad);
+        }
+        return List.copyOf(remapped);
+    }
+    
+    private BakedQuad remapQuad(BakedQuad quad) {
+        Sprite from = quad.getSprite();
+        int[] vertexData = quad.getVertexData().clone();
+        
+        float fromU = from.getMaxU() - from.getMinU();
+        float fromV = from.getMaxV() - from.getMinV();
+        float toU = sprite.getMaxU() - sprite.getMinU();
+        float toV = sprite.getMaxV() - sprite.getMinV();
+        
+        for (int i = 0; i + VERTEX_STRIDE <= vertexData.length; i += VERTEX_STRIDE) {
+            float u = Float.intBitsToFloat(vertexData[i + UV_OFFSET]);
+            float v = Float.intBitsToFloat(vertexData[i + UV_OFFSET + 1]);
+            
+            float fu = fromU != 0 ? (u - from.getMinU()) / fromU : 0;
+            float fv = fromV != 0 ? (v - from.getMinV()) / fromV : 0;
+            
+            vertexData[i + UV_OFFSET] = Float.floatToRawIntBits(sprite.getMinU() + fu * toU);
+            vertexData[i + UV_OFFSET + 1] = Float.floatToRawIntBits(sprite.getMinV() + fv * toV);
+        }
+        
+        return new BakedQuad(vertexData, quad.getColorIndex(), quad.getFace(), sprite, quad.hasShade());
+    }
+    
+    @Override
+    public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction face, Random random) {
+        return face == null ? unculledQuads : faceQuads.get(face.ordinal());
+    }
+    
+    @Override
+    public boolean useAmbientOcclusion() {
+        return base.useAmbientOcclusion();
+    }
+    
+    @Override
+    public boolean hasDepth() {
+        return base.hasDepth();
+    }
+    
+    @Override
+    public boolean isSideLit() {
+        return base.isSideLit();
+    }
+    
+    @Override
+    public boolean isBuiltin() {
+        return base.isBuiltin();
+    }
+    
+    @Override
+    public Sprite getParticleSprite() {
+        return sprite;
+    }
+    
+    @Override
+    public ModelTransformation getTransformation() {
+        return base.getTransformation();
+    }
+    
+    @Override
+    public ModelOverrideList getOverrides() {
+        return base.getOverrides();
+    }
+    
+    public BakedModel getBase() {
+        return base;
+    }
+    
+    public Sprite getSprite() {
+        return sprite;
+    }
+}
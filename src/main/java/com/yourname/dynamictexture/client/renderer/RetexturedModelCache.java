@@ -0,0 +1,78 @@
+package com.yourname.dynamictexture.client.renderer;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.texture.Sprite;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Cache of retextured models, one per (base model, sprite) pair
+ */
+public class RetexturedModelCache {
+    private static final RetexturedModelCache INSTANCE = new RetexturedModelCache();
+    private final Map<BakedModel, Map<Sprite, RetexturedBakedModel>> cache = new IdentityHashMap<>();
+    // Base models checked by RetexturedBakedModel.canRetexture
+    private final Map<BakedModel, Boolean> retexturable = new IdentityHashMap<>();
+    private int size = 0;
+    
+    private RetexturedModelCache() {
+    }
+    
+    public static RetexturedModelCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get base model retextured with sprite, building it on first use.
+     * Returns the base model unchanged if it draws from more than one sprite.
+     */
+    public BakedModel get(BakedModel base, Sprite sprite) {
+        // Never wrap twice
+        if (base instanceof RetexturedBakedModel retextured) {
+            if (retextured.getSprite() == sprite) {
+                return retextured;
+            }
+            base = retextured.getBase();
+        }
+        
+        if (!retexturable.computeIfAbsent(base, RetexturedBakedModel::canRetexture)) {
+            return base;
+        }
+        
+        Map<Sprite, RetexturedBakedModel> bySprite = cache.get(base);
+        if (bySprite == null) {
+            bySprite = new IdentityHashMap<>(4);
+            cache.put(base, bySprite);
+        }
+        
+        RetexturedBakedModel model = bySprite.get(sprite);
+        if (model == null) {
+            model = new RetexturedBakedModel(base, sprite);
+            bySprite.put(sprite, model);
+            size++;
+            DynamicTextureLoader.LOGGER.debug("Retextured model built for sprite {}", sprite.getContents().getId());
+        }
+        
+        return model;
+    }
+    
+    /**
+     * Clear retextured models
+     */
+    public void clearCache() {
+        int count = size;
+        cache.clear();
+        retexturable.clear();
+        size = 0;
+        DynamicTextureLoader.LOGGER.info("Cleared {} retextured models from cache", count);
+    }
+    
+    /**
+     * Get cache size
+     */
+    public int getCacheSize() {
+        return size;
+    }
+}
@@ -1,26 +1,64 @@
 package com.yourname.dynamictexture.client.renderer;
 
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.atlas.AtlasRegion;
+import com.yourname.dynamictexture.client.renderer.atlas.AtlasStats;
+import com.yourname.dynamictexture.client.renderer.atlas.DynamicAtlasPage;
+import com.yourname.dynamictexture.core.cache.ContentStore;
+import com.yourname.dynamictexture.core.io.ResourceBytes;
+import com.yourname.dynamictexture.manager.TextureBinding;
+import com.yourname.dynamictexture.manager.TextureIndex;
+import com.yourname.dynamictexture.util.PackReader;
 import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.DrawContext;
+import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.Sprite;
 import net.minecraft.client.texture.SpriteAtlasTexture;
 import net.minecraft.screen.PlayerScreenHandler;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.InvalidIdentifierException;
+import net.minecraft.util.Util;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * Manages texture atlas and sprites
+ * Manages texture atlas and sprites.
+ * Item models are retextured onto sprites of the stitched block atlas, since vanilla item
+ * layers bind only that atlas. The runtime atlas holds textures drawn directly by the GUI,
+ * such as preview thumbnails.
  */
 public class TextureAtlasManager {
     private static final TextureAtlasManager INSTANCE = new TextureAtlasManager();
+    private static final int COMPACTION_CHECK_INTERVAL = 100;
     private final MinecraftClient client;
     private final Map<String, Sprite> spriteCache = new HashMap<>();
+    private final MissingResourceCache missingCache;
+    
+    // Runtime atlas for GUI textures that are not part of the stitched block atlas
+    private final List<DynamicAtlasPage> dynamicPages = new ArrayList<>();
+    private final Map<Identifier, AtlasRegion> dynamicRegions = new HashMap<>();
+    // Regions shared by every id with the same content; ids registered without a hash own their region
+    private final ContentStore<AtlasRegion> sharedRegions = new ContentStore<>(region -> region.page.free(region));
+    private final Map<Identifier, Long> regionHashes = new HashMap<>();
+    private long currentTick = 0;
+    private long allocations = 0;
+    private long evictions = 0;
+    private long compactions = 0;
     
     private TextureAtlasManager() {
         this.client = MinecraftClient.getInstance();
+        this.missingCache = MissingResourceCache.getInstance();
     }
     
     public static TextureAtlasManager getInstance() {
@@ -51,13 +89,46 @@ public class TextureAtlasManager {
     }
     
     /**
-     * Load sprite from texture atlas
+     * Get block atlas sprite for binding, resolving it once per reload.
+     * Uses the binding's precomputed id, so known-missing sprites cost one set lookup.
+     */
+    @Nullable
+    public Sprite getSprite(TextureBinding binding) {
+        if (binding.sprite == null && !missingCache.isMissing(binding.spriteId)) {
+            binding.sprite = loadSprite(binding.spriteId);
+        }
+        return binding.sprite;
+    }
+    
+    /**
+     * Load sprite from texture atlas, marking names that don't form a valid id as missing
      */
     @Nullable
     private Sprite loadSprite(String namespace, String textureName) {
+        String key = namespace + ":item/" + textureName;
+        if (missingCache.isMissing(key)) {
+            return null;
+        }
+        
+        Identifier textureId;
+        try {
+            textureId = Identifier.of(namespace, "item/" + textureName);
+        } catch (InvalidIdentifierException e) {
+            if (missingCache.markMissing(key)) {
+                DynamicTextureLoader.LOGGER.warn("Invalid sprite id {}: {}", key, e.getMessage());
+            }
+            return null;
+        }
+        
+        return missingCache.isMissing(textureId) ? null : loadSprite(textureId);
+    }
+    
+    /**
+     * Load sprite from texture atlas
+     */
+    @Nullable
+    private Sprite loadSprite(Identifier textureId) {
         try {
-            Identifier textureId = Identifier.of(namespace, "item/" + textureName);
-            
             // Get the block atlas (items use the same atlas)
             SpriteAtlasTexture atlas = client.getSpriteAtlas(PlayerScreenHandler.BLOCK_ATLAS_TEXTURE);
             
@@ -70,20 +141,365 @@ public class TextureAtlasManager {
                 }
             }
             
-            DynamicTextureLoader.LOGGER.warn("Sprite not found: {}", textureId);
+            if (missingCache.markMissing(textureId)) {
+                DynamicTextureLoader.LOGGER.warn("Sprite not found: {}", textureId);
+            }
         } catch (Exception e) {
-            DynamicTextureLoader.LOGGER.error("Failed to load sprite", e);
+            if (missingCache.markMissing(textureId)) {
+                DynamicTextureLoader.LOGGER.error("Failed to load sprite", e);
+            }
         }
         
         return null;
     }
     
     /**
-     * Register sprite for stitching
+     * Register a resource texture in the runtime atlas
+     */
+    @Nullable
+    public AtlasRegion registerSprite(Identifier textureId) {
+        AtlasRegion existing = dynamicRegions.get(textureId);
+        if (existing != null) {
+            return existing;
+        }
+        
+        if (missingCache.isMissing(textureId)) {
+            return null;
+        }
+        
+        var resourceOpt = client.getResourceManager().getResource(textureId);
+        if (resourceOpt.isEmpty()) {
+            if (missingCache.markMissing(textureId)) {
+                DynamicTextureLoader.LOGGER.warn("Texture not found: {}", textureId);
+            }
+            return null;
+        }
+        
+        TextureIndex.Entry entry = DynamicTextureLoader.textureIndex.get(textureId);
+        long contentHash = entry != null ? entry.contentHash : 0;
+        AtlasRegion shared = acquireShared(textureId, contentHash);
+        if (shared != null) {
+            return shared;
+        }
+        
+        try (ResourceBytes bytes = PackReader.getInstance().read(textureId, resourceOpt.get());
+             NativeImage image = NativeImage.read(bytes.buffer())) {
+            return registerDynamicSprite(textureId, contentHash, image, UploadScheduler.Priority.PRELOAD);
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.error("Failed to register sprite: " + textureId, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Pack image into the runtime atlas as a preload
      */
-    public void registerSprite(Identifier textureId) {
-        // TODO: Implement sprite registration for dynamic textures
-        DynamicTextureLoader.LOGGER.info("Registering sprite for stitching: {}", textureId);
+    @Nullable
+    public AtlasRegion registerDynamicSprite(Identifier id, NativeImage image) {
+        return registerDynamicSprite(id, image, UploadScheduler.Priority.PRELOAD);
+    }
+    
+    /**
+     * Pack image into the runtime atlas.
+     * The image is copied, so the caller keeps ownership of it; the GPU
+     * upload is queued on the upload scheduler. Must be called on the render thread.
+     */
+    @Nullable
+    public AtlasRegion registerDynamicSprite(Identifier id, NativeImage image, UploadScheduler.Priority priority) {
+        return registerDynamicSprite(id, 0, image, priority);
+    }
+    
+    /**
+     * Pack image into the runtime atlas, sharing one region between every id registered
+     * with the same non-zero content hash
+     */
+    @Nullable
+    public AtlasRegion registerDynamicSprite(Identifier id, long contentHash, NativeImage image,
+                                             UploadScheduler.Priority priority) {
+        RenderSystem.assertOnRenderThread();
+        
+        AtlasRegion existing = dynamicRegions.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        
+        AtlasRegion shared = acquireShared(id, contentHash);
+        if (shared != null) {
+            return shared;
+        }
+        
+        int pageSize = DynamicTextureLoader.config.atlasPageSize;
+        if (image.getWidth() > pageSize || image.getHeight() > pageSize) {
+            DynamicTextureLoader.LOGGER.warn(
+                "Texture {} ({}x{}) is larger than an atlas page ({})",
+                id, image.getWidth(), image.getHeight(), pageSize
+            );
+            return null;
+        }
+        
+        AtlasRegion region = insertIntoPages(id, image, priority);
+        
+        // Open a new page while under budget, otherwise make room by eviction
+        if (region == null) {
+            if (getDynamicCapacityBytes() + (long) pageSize * pageSize * 4 <= getBudgetBytes()
+                || dynamicPages.isEmpty()) {
+                DynamicAtlasPage page = new DynamicAtlasPage(dynamicPages.size(), pageSize);
+                dynamicPages.add(page);
+                DynamicTextureLoader.LOGGER.info("Opened dynamic atlas page {}", page.getTextureId());
+                region = page.insert(id, image, priority);
+            } else {
+                region = evictAndInsert(id, image, priority);
+            }
+        }
+        
+        if (region != null) {
+            dynamicRegions.put(id, region);
+            if (contentHash != 0) {
+                sharedRegions.add(contentHash, region);
+                regionHashes.put(id, contentHash);
+            }
+            region.markUsed(currentTick);
+            allocations++;
+            DynamicTextureLoader.LOGGER.debug("Packed dynamic sprite: {}", region);
+        } else {
+            DynamicTextureLoader.LOGGER.warn("Dynamic texture budget exhausted, cannot pack {}", id);
+        }
+        
+        return region;
+    }
+    
+    /**
+     * Point an id at the region already holding its content, if any
+     */
+    @Nullable
+    private AtlasRegion acquireShared(Identifier id, long contentHash) {
+        if (contentHash == 0) {
+            return null;
+        }
+        
+        AtlasRegion shared = sharedRegions.acquire(contentHash);
+        if (shared != null) {
+            dynamicRegions.put(id, shared);
+            regionHashes.put(id, contentHash);
+        }
+        return shared;
+    }
+    
+    /**
+     * First fit over existing pages
+     */
+    @Nullable
+    private AtlasRegion insertIntoPages(Identifier id, NativeImage image, UploadScheduler.Priority priority) {
+        for (DynamicAtlasPage page : dynamicPages) {
+            AtlasRegion region = page.insert(id, image, priority);
+            if (region != null) {
+                return region;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Evict least recently used regions until the image fits.
+     * A region is used when registered or drawn through {@link #drawRegion};
+     * regions used this tick are never evicted.
+     */
+    @Nullable
+    private AtlasRegion evictAndInsert(Identifier id, NativeImage image, UploadScheduler.Priority priority) {
+        // Shared regions appear once per id
+        Set<AtlasRegion> unique = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<AtlasRegion> candidates = new ArrayList<>();
+        for (AtlasRegion region : dynamicRegions.values()) {
+            if (region.getLastUsed() < currentTick && !region.page.isCompacting() && unique.add(region)) {
+                candidates.add(region);
+            }
+        }
+        candidates.sort(Comparator.comparingLong(AtlasRegion::getLastUsed));
+        
+        for (AtlasRegion victim : candidates) {
+            evict(victim);
+            evictions++;
+            DynamicTextureLoader.LOGGER.debug("Evicted dynamic sprite: {}", victim.id);
+            
+            AtlasRegion region = victim.page.insert(id, image, priority);
+            if (region != null) {
+                return region;
+            }
+            // An emptied page resets, so a miss there means nothing more can be gained
+            if (victim.page.getLiveArea() == 0) {
+                break;
+            }
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Release an id's runtime atlas region; shared regions go back to their page with the last id
+     */
+    public void unregisterSprite(Identifier id) {
+        AtlasRegion region = dynamicRegions.remove(id);
+        if (region == null) {
+            return;
+        }
+        
+        Long contentHash = regionHashes.remove(id);
+        if (contentHash != null) {
+            sharedRegions.release(contentHash);
+        } else {
+            region.page.free(region);
+        }
+    }
+    
+    /**
+     * Free a region and drop every id pointing at it
+     */
+    private void evict(AtlasRegion victim) {
+        Iterator<Map.Entry<Identifier, AtlasRegion>> entries = dynamicRegions.entrySet().iterator();
+        Long contentHash = null;
+        while (entries.hasNext()) {
+            Map.Entry<Identifier, AtlasRegion> entry = entries.next();
+            if (entry.getValue() == victim) {
+                entries.remove();
+                Long hash = regionHashes.remove(entry.getKey());
+                contentHash = hash != null ? hash : contentHash;
+            }
+        }
+        
+        if (contentHash != null) {
+            sharedRegions.remove(contentHash);
+        } else {
+            victim.page.free(victim);
+        }
+    }
+    
+    /**
+     * Draw a region scaled to the given size, recording the use for eviction
+     */
+    public void drawRegion(DrawContext context, AtlasRegion region, int x, int y, int width, int height) {
+        int pageSize = region.page.getSize();
+        context.drawTexture(
+            region.getTextureId(),
+            x,
+            y,
+            width,
+            height,
+            region.getX(),
+            region.getY(),
+            region.width,
+            region.height,
+            pageSize,
+            pageSize
+        );
+        region.markUsed(currentTick);
+    }
+    
+    /**
+     * Advance the eviction clock and start background compaction of fragmented pages
+     */
+    public void tick() {
+        currentTick++;
+        
+        if (currentTick % COMPACTION_CHECK_INTERVAL != 0) {
+            return;
+        }
+        
+        float threshold = DynamicTextureLoader.config.atlasCompactionThreshold;
+        for (DynamicAtlasPage page : dynamicPages) {
+            if (!page.isCompacting() && page.getFragmentation() > threshold) {
+                compactAsync(page);
+            }
+        }
+    }
+    
+    /**
+     * Repack a page on a worker thread and publish it on the render thread
+     */
+    private void compactAsync(DynamicAtlasPage page) {
+        DynamicAtlasPage.CompactionPlan plan = page.beginCompaction();
+        DynamicTextureLoader.LOGGER.debug(
+            "Compacting {} ({}% fragmented)", page.getTextureId(), (int) (page.getFragmentation() * 100)
+        );
+        
+        CompletableFuture
+            .supplyAsync(() -> page.compact(plan), Util.getMainWorkerExecutor())
+            .whenCompleteAsync((result, error) -> {
+                if (error != null) {
+                    DynamicTextureLoader.LOGGER.error("Failed to compact " + page.getTextureId(), error);
+                }
+                
+                page.finishCompaction(error == null ? result : null);
+                compactions++;
+            }, client);
+    }
+    
+    /**
+     * Get runtime atlas region for texture
+     */
+    @Nullable
+    public AtlasRegion getDynamicRegion(Identifier id) {
+        return dynamicRegions.get(id);
+    }
+    
+    /**
+     * Release all runtime atlas pages
+     */
+    public void clearDynamicAtlas() {
+        for (DynamicAtlasPage page : dynamicPages) {
+            page.close();
+        }
+        
+        int count = dynamicRegions.size();
+        dynamicPages.clear();
+        dynamicRegions.clear();
+        regionHashes.clear();
+        // Pages are closed already, so nothing is left to free
+        sharedRegions.clear();
+        DynamicTextureLoader.LOGGER.info("Cleared {} dynamic sprites from atlas", count);
+    }
+    
+    /**
+     * Get number of runtime atlas pages
+     */
+    public int getDynamicPageCount() {
+        return dynamicPages.size();
+    }
+    
+    private long getDynamicCapacityBytes() {
+        long bytes = 0;
+        for (DynamicAtlasPage page : dynamicPages) {
+            bytes += page.getByteSize();
+        }
+        return bytes;
+    }
+    
+    private long getBudgetBytes() {
+        return (long) DynamicTextureLoader.config.dynamicTextureBudgetMb * 1024 * 1024;
+    }
+    
+    /**
+     * Get runtime atlas statistics
+     */
+    public AtlasStats getAtlasStats() {
+        long live = 0;
+        long free = 0;
+        for (DynamicAtlasPage page : dynamicPages) {
+            live += page.getLiveArea() * 4;
+            free += page.getFreeArea() * 4;
+        }
+        
+        return new AtlasStats(
+            dynamicPages.size(),
+            dynamicRegions.size(),
+            live,
+            free,
+            getDynamicCapacityBytes(),
+            getBudgetBytes(),
+            live + free == 0 ? 0.0f : (float) free / (live + free),
+            allocations,
+            evictions,
+            compactions
+        );
     }
     
     /**
@@ -0,0 +1,115 @@
+package com.yourname.dynamictexture.client.renderer;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Spreads GPU texture uploads over frames within a per-frame time budget.
+ * Uploads for visible items are drained before preloads.
+ */
+public class UploadScheduler {
+    private static final UploadScheduler INSTANCE = new UploadScheduler();
+    private final Queue<Runnable> visibleQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> preloadQueue = new ConcurrentLinkedQueue<>();
+    
+    // Stats for the last drained frame
+    private long lastFrameNanos = 0;
+    private int lastFrameUploads = 0;
+    private long totalUploads = 0;
+    
+    private UploadScheduler() {
+    }
+    
+    public static UploadScheduler getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Queue an upload. Safe to call from any thread.
+     */
+    public void enqueue(Priority priority, Runnable upload) {
+        if (priority == Priority.VISIBLE) {
+            visibleQueue.add(upload);
+        } else {
+            preloadQueue.add(upload);
+        }
+    }
+    
+    /**
+     * Run queued uploads until the frame budget is spent.
+     * Always runs at least one upload so the queue cannot stall.
+     */
+    public void drain() {
+        RenderSystem.assertOnRenderThread();
+        
+        if (visibleQueue.isEmpty() && preloadQueue.isEmpty()) {
+            lastFrameNanos = 0;
+            lastFrameUploads = 0;
+            return;
+        }
+        
+        long budget = (long) (DynamicTextureLoader.config.uploadBudgetMs * 1_000_000L);
+        long start = System.nanoTime();
+        long elapsed = 0;
+        int uploads = 0;
+        
+        while (uploads == 0 || elapsed < budget) {
+            Runnable upload = visibleQueue.poll();
+            if (upload == null) {
+                upload = preloadQueue.poll();
+            }
+            if (upload == null) {
+                break;
+            }
+            
+            try {
+                upload.run();
+            } catch (Exception e) {
+                DynamicTextureLoader.LOGGER.error("Texture upload failed", e);
+            }
+            
+            uploads++;
+            elapsed = System.nanoTime() - start;
+        }
+        
+        lastFrameNanos = elapsed;
+        lastFrameUploads = uploads;
+        totalUploads += uploads;
+    }
+    
+    /**
+     * Get number of queued uploads
+     */
+    public int getQueueDepth() {
+        return visibleQueue.size() + preloadQueue.size();
+    }
+    
+    /**
+     * Get time spent uploading in the last frame
+     */
+    public long getLastFrameNanos() {
+        return lastFrameNanos;
+    }
+    
+    /**
+     * Get number of uploads run in the last frame
+     */
+    public int getLastFrameUploads() {
+        return lastFrameUploads;
+    }
+    
+    public long getTotalUploads() {
+        return totalUploads;
+    }
+    
+    /**
+     * Upload priority
+     */
+    public enum Priority {
+        VISIBLE,
+        PRELOAD
+    }
+}
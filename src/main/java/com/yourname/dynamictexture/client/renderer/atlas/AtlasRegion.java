@@ -0,0 +1,126 @@
+package com.yourname.dynamictexture.client.renderer.atlas;
+
+import com.yourname.dynamictexture.core.atlas.SkylinePacker;
+import net.minecraft.util.Identifier;
+
+/**
+ * Region of a dynamic atlas page holding one texture.
+ * Position may change when the page is compacted, so read UVs at draw time.
+ */
+public class AtlasRegion {
+    public final Identifier id;
+    public final DynamicAtlasPage page;
+    public final int width;
+    public final int height;
+    
+    // Position on the page, updated by compaction
+    int x;
+    int y;
+    private float minU;
+    private float minV;
+    private float maxU;
+    private float maxV;
+    
+    // Tick this region was last registered or drawn, used for eviction
+    long lastUsed;
+    boolean valid = true;
+    
+    public AtlasRegion(Identifier id, DynamicAtlasPage page, int x, int y, int width, int height) {
+        this.id = id;
+        this.page = page;
+        this.width = width;
+        this.height = height;
+        relocate(x, y);
+    }
+    
+    /**
+     * Move region to a new position on its page
+     */
+    void relocate(int x, int y) {
+        this.x = x;
+        this.y = y;
+        this.minU = (float) x / page.getSize();
+        this.minV = (float) y / page.getSize();
+        this.maxU = (float) (x + width) / page.getSize();
+        this.maxV = (float) (y + height) / page.getSize();
+    }
+    
+    /**
+     * Record the tick this region was registered or drawn
+     */
+    public void markUsed(long tick) {
+        this.lastUsed = tick;
+    }
+    
+    SkylinePacker.Rect toRect() {
+        return new SkylinePacker.Rect(x, y, width, height);
+    }
+    
+    /**
+     * Get texture id of the page to bind
+     */
+    public Identifier getTextureId() {
+        return page.getTextureId();
+    }
+    
+    /**
+     * Check region still holds its texture (not evicted or cleared)
+     */
+    public boolean isValid() {
+        return valid;
+    }
+    
+    public int getX() {
+        return x;
+    }
+    
+    public int getY() {
+        return y;
+    }
+    
+    public float getMinU() {
+        return minU;
+    }
+    
+    public float getMinV() {
+        return minV;
+    }
+    
+    public float getMaxU() {
+        return maxU;
+    }
+    
+    public float getMaxV() {
+        return maxV;
+    }
+    
+    public long getLastUsed() {
+        return lastUsed;
+    }
+    
+    /**
+     * Get size in bytes on the GPU
+     */
+    public long getByteSize() {
+        return (long) width * height * 4;
+    }
+    
+    /**
+     * Interpolate U across region
+     */
+    public float getU(float fraction) {
+        return minU + (maxU - minU) * fraction;
+    }
+    
+    /**
+     * Interpolate V across region
+     */
+    public float getV(float fraction) {
+        return minV + (maxV - minV) * fraction;
+    }
+    
+    @Override
+    public String toString() {
+        return id + " -> " + page.getTextureId() + " " + width + "x" + height + "@" + x + "," + y;
+    }
+}
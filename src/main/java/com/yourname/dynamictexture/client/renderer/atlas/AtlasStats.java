@@ -0,0 +1,44 @@
+package com.yourname.dynamictexture.client.renderer.atlas;
+
+/**
+ * Runtime atlas statistics data class
+ */
+public class AtlasStats {
+    public final int pageCount;
+    public final int regionCount;
+    public final long liveBytes;
+    public final long freeListBytes;
+    public final long capacityBytes;
+    public final long budgetBytes;
+    public final float fragmentation;
+    public final long allocations;
+    public final long evictions;
+    public final long compactions;
+    
+    public AtlasStats(int pageCount, int regionCount, long liveBytes, long freeListBytes,
+                      long capacityBytes, long budgetBytes, float fragmentation,
+                      long allocations, long evictions, long compactions) {
+        this.pageCount = pageCount;
+        this.regionCount = regionCount;
+        this.liveBytes = liveBytes;
+        this.freeListBytes = freeListBytes;
+        this.capacityBytes = capacityBytes;
+        this.budgetBytes = budgetBytes;
+        this.fragmentation = fragmentation;
+        this.allocations = allocations;
+        this.evictions = evictions;
+        this.compactions = compactions;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+            "Pages: %d, Sprites: %d, Live: %d KB, Free-list: %d KB, VRAM: %d/%d KB, Fragmentation: %.1f%%, Allocs: %d, Evictions: %d, Compactions: %d",
+            pageCount, regionCount,
+            liveBytes / 1024, freeListBytes / 1024,
+            capacityBytes / 1024, budgetBytes / 1024,
+            fragmentation * 100.0f,
+            allocations, evictions, compactions
+        );
+    }
+}
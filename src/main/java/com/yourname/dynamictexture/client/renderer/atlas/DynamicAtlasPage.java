@@ -0,0 +1,272 @@
+package com.yourname.dynamictexture.client.renderer.atlas;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.UploadScheduler;
+import com.yourname.dynamictexture.core.atlas.RegionAllocator;
+import com.yourname.dynamictexture.core.atlas.SkylinePacker;
+import com.yourname.dynamictexture.util.TextureEvents;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.client.texture.NativeImageBackedTexture;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * One page of the runtime texture atlas.
+ * Keeps a CPU copy of the page and uploads only the sub-rectangles that change.
+ */
+public class DynamicAtlasPage {
+    private final int index;
+    private final int size;
+    private final Identifier textureId;
+    private final NativeImageBackedTexture texture;
+    private final List<AtlasRegion> regions = new ArrayList<>();
+    private RegionAllocator allocator;
+    private NativeImage image;
+    private boolean compacting = false;
+    private boolean closed = false;
+    
+    public DynamicAtlasPage(int index, int size) {
+        this.index = index;
+        this.size = size;
+        this.textureId = Identifier.of(DynamicTextureLoader.MOD_ID, "atlas/page_" + index);
+        this.allocator = new RegionAllocator(size, size);
+        this.image = new NativeImage(size, size, true);
+        this.texture = new NativeImageBackedTexture(image);
+        MinecraftClient.getInstance().getTextureManager().registerTexture(textureId, texture);
+    }
+    
+    /**
+     * Copy image into a free region of this page, or return null when full.
+     * The GPU upload of the region is queued with the given priority.
+     */
+    @Nullable
+    public AtlasRegion insert(Identifier id, NativeImage source, UploadScheduler.Priority priority) {
+        if (compacting) {
+            return null;
+        }
+        
+        SkylinePacker.Rect rect = allocator.allocate(source.getWidth(), source.getHeight());
+        
+        if (rect == null) {
+            return null;
+        }
+        
+        source.copyRect(image, 0, 0, rect.x, rect.y, rect.width, rect.height, false, false);
+        UploadScheduler.getInstance().enqueue(priority, () -> upload(rect.x, rect.y, rect.width, rect.height));
+        
+        AtlasRegion region = new AtlasRegion(id, this, rect.x, rect.y, rect.width, rect.height);
+        regions.add(region);
+        return region;
+    }
+    
+    /**
+     * Release a region back to the free-list
+     */
+    public void free(AtlasRegion region) {
+        if (region.page != this || !region.valid) {
+            return;
+        }
+        
+        region.valid = false;
+        regions.remove(region);
+        
+        // Deferred while compacting; applied if the compaction fails
+        allocator.free(region.toRect());
+    }
+    
+    /**
+     * Upload a sub-rectangle of the CPU copy to the GPU texture
+     */
+    private void upload(int x, int y, int width, int height) {
+        RenderSystem.assertOnRenderThread();
+        if (closed) {
+            return;
+        }
+        TextureEvents.TextureUpload event = TextureEvents.TextureUpload.start();
+        texture.bindTexture();
+        image.upload(0, x, y, x, y, width, height, false, false, false, false);
+        if (event != null) {
+            event.texture = textureId.toString();
+            event.width = width;
+            event.height = height;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Start compaction: snapshot live regions and page pixels, and stop accepting inserts.
+     * The returned plan owns its pixel copy, so it stays safe to execute off the render thread
+     * even if the page is closed meanwhile.
+     */
+    public CompactionPlan beginCompaction() {
+        RenderSystem.assertOnRenderThread();
+        compacting = true;
+        allocator.deferFrees();
+        NativeImage source = new NativeImage(size, size, false);
+        source.copyFrom(image);
+        return new CompactionPlan(new ArrayList<>(regions), source);
+    }
+    
+    /**
+     * Repack snapshot regions into a fresh image. Runs on a worker thread and
+     * reads only the plan's pixel copy, which it closes.
+     */
+    @Nullable
+    public CompactionResult compact(CompactionPlan plan) {
+        try (NativeImage source = plan.source) {
+            return compact(plan.regions, source);
+        }
+    }
+    
+    @Nullable
+    private CompactionResult compact(List<AtlasRegion> regions, NativeImage source) {
+        List<AtlasRegion> order = new ArrayList<>(regions);
+        order.sort(Comparator.comparingInt((AtlasRegion r) -> r.height).reversed()
+            .thenComparing(Comparator.comparingInt((AtlasRegion r) -> r.width).reversed()));
+        
+        RegionAllocator packed = new RegionAllocator(size, size);
+        NativeImage target = new NativeImage(size, size, true);
+        List<SkylinePacker.Rect> placements = new ArrayList<>(order.size());
+        
+        for (AtlasRegion region : order) {
+            SkylinePacker.Rect rect = packed.allocate(region.width, region.height);
+            if (rect == null) {
+                // Cannot happen for a subset of what already fit, but never lose pixels
+                target.close();
+                return null;
+            }
+            source.copyRect(target, region.x, region.y, rect.x, rect.y, rect.width, rect.height, false, false);
+            placements.add(rect);
+        }
+        
+        return new CompactionResult(order, placements, packed, target);
+    }
+    
+    /**
+     * Publish compacted layout on the render thread
+     */
+    public void finishCompaction(@Nullable CompactionResult result) {
+        RenderSystem.assertOnRenderThread();
+        compacting = false;
+        
+        // Page was released while compacting
+        if (closed && result != null) {
+            result.image.close();
+            result = null;
+        }
+        
+        // Keep the old layout and return what was freed meanwhile to it
+        if (result == null) {
+            allocator.applyDeferredFrees();
+            return;
+        }
+        
+        // Regions freed meanwhile are freed from the new layout below
+        allocator.discardDeferredFrees();
+        
+        for (int i = 0; i < result.regions.size(); i++) {
+            AtlasRegion region = result.regions.get(i);
+            SkylinePacker.Rect rect = result.placements.get(i);
+            
+            if (region.valid) {
+                region.relocate(rect.x, rect.y);
+            } else {
+                // Freed while we were compacting
+                result.allocator.free(rect);
+            }
+        }
+        
+        allocator = result.allocator;
+        image = result.image;
+        texture.setImage(image);
+        texture.upload();
+    }
+    
+    /**
+     * Release GPU texture and CPU copy
+     */
+    public void close() {
+        closed = true;
+        for (AtlasRegion region : regions) {
+            region.valid = false;
+        }
+        regions.clear();
+        MinecraftClient.getInstance().getTextureManager().destroyTexture(textureId);
+    }
+    
+    public int getIndex() {
+        return index;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public Identifier getTextureId() {
+        return textureId;
+    }
+    
+    public List<AtlasRegion> getRegions() {
+        return regions;
+    }
+    
+    public boolean isCompacting() {
+        return compacting;
+    }
+    
+    public long getLiveArea() {
+        return allocator.getLiveArea();
+    }
+    
+    public long getFreeArea() {
+        return allocator.getFreeArea();
+    }
+    
+    public float getFragmentation() {
+        return allocator.getFragmentation();
+    }
+    
+    /**
+     * Get size of the page in bytes on the GPU
+     */
+    public long getByteSize() {
+        return (long) size * size * 4;
+    }
+    
+    /**
+     * Regions to repack, captured on the render thread
+     */
+    public static class CompactionPlan {
+        final List<AtlasRegion> regions;
+        final NativeImage source;
+        
+        CompactionPlan(List<AtlasRegion> regions, NativeImage source) {
+            this.regions = regions;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Repacked layout waiting to be published
+     */
+    public static class CompactionResult {
+        final List<AtlasRegion> regions;
+        final List<SkylinePacker.Rect> placements;
+        final RegionAllocator allocator;
+        final NativeImage image;
+        
+        CompactionResult(List<AtlasRegion> regions, List<SkylinePacker.Rect> placements,
+                         RegionAllocator allocator, NativeImage image) {
+            this.regions = regions;
+            this.placements = placements;
+            this.allocator = allocator;
+            this.image = image;
+        }
+    }
+}
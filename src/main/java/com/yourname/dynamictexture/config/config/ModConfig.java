@@ -19,6 +19,16 @@ public class ModConfig {
     public boolean enableAnimations = true;
     public boolean showPreview = true;
     public int cacheSize = 100;
+    public int atlasPageSize = 1024;
+    public int dynamicTextureBudgetMb = 64;
+    public float atlasCompactionThreshold = 0.35f;
+    public float uploadBudgetMs = 2.0f;
+    public int decodeThreads = 2;
+    public int parallelPixelThreshold = 512 * 512;
+    public int mipCacheBudgetMb = 16;
+    public int thumbnailCacheMb = 32;
+    // Registers benchmark commands outside a development environment
+    public boolean debugCommands = false;
     
     public static ModConfig load() {
         if (CONFIG_FILE.exists()) {
@@ -0,0 +1,113 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Interns texture bindings so each distinct tuple is built once.
+ * Client thread only, like the {@link TextureManager} memo in front of it; not thread-safe.
+ */
+public class BindingRegistry {
+    // Invalid tuples map to null, so they are rejected and logged once
+    private final Map<Key, TextureBinding> bindings = new HashMap<>();
+    private final List<TextureBinding> byId = new ArrayList<>();
+    
+    /**
+     * Get the canonical binding for a tuple, creating it on first use.
+     * Returns null if the tuple doesn't form valid identifiers.
+     */
+    @Nullable
+    public TextureBinding intern(String pack, String namespace, String texture, @Nullable String model) {
+        Key key = new Key(pack, namespace, texture, model);
+        if (bindings.containsKey(key)) {
+            return bindings.get(key);
+        }
+        
+        TextureBinding binding = TextureBinding.create(
+            byId.size(),
+            new TextureManager.CustomTextureData(pack, namespace, texture, model)
+        );
+        bindings.put(key, binding);
+        
+        if (binding != null) {
+            byId.add(binding);
+            DynamicTextureLoader.LOGGER.debug("Interned binding {}", binding);
+        } else {
+            DynamicTextureLoader.LOGGER.warn("Ignoring invalid texture binding {}:{} (model {})", namespace, texture, model);
+        }
+        
+        return binding;
+    }
+    
+    /**
+     * Get binding by id
+     */
+    @Nullable
+    public TextureBinding get(int id) {
+        return id >= 0 && id < byId.size() ? byId.get(id) : null;
+    }
+    
+    /**
+     * Forget resolved handles of all bindings.
+     * Identifiers and ids stay valid across reloads.
+     */
+    public void resetHandles() {
+        for (TextureBinding binding : byId) {
+            binding.resetHandles();
+        }
+    }
+    
+    /**
+     * Get all bindings in id order
+     */
+    public List<TextureBinding> getBindings() {
+        return new ArrayList<>(byId);
+    }
+    
+    /**
+     * Get number of interned bindings
+     */
+    public int size() {
+        return byId.size();
+    }
+    
+    /**
+     * Lookup key for a binding tuple
+     */
+    private static class Key {
+        private final String pack;
+        private final String namespace;
+        private final String texture;
+        private final String model;
+        private final int hash;
+        
+        Key(String pack, String namespace, String texture, String model) {
+            this.pack = pack;
+            this.namespace = namespace;
+            this.texture = texture;
+            this.model = model;
+            this.hash = Objects.hash(pack, namespace, texture, model);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return Objects.equals(pack, other.pack)
+                && Objects.equals(namespace, other.namespace)
+                && Objects.equals(texture, other.texture)
+                && Objects.equals(model, other.model);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
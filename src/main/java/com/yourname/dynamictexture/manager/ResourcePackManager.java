@@ -1,13 +1,19 @@
 package com.yourname.dynamictexture.manager;
 
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.hash.ContentHash;
+import com.yourname.dynamictexture.core.hash.PackFingerprint;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.resource.ResourcePackProfile;
+import org.jetbrains.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ResourcePackManager {
+    private static final String FILE_PACK_PREFIX = "file/";
     
     public List<String> getActiveResourcePacks() {
         List<String> packs = new ArrayList<>();
@@ -21,6 +27,50 @@ public class ResourcePackManager {
         return packs;
     }
     
+    /**
+     * Ids of the enabled packs, in load order
+     */
+    public List<String> getEnabledPackIds() {
+        List<String> ids = new ArrayList<>();
+        for (ResourcePackProfile profile : MinecraftClient.getInstance().getResourcePackManager().getEnabledProfiles()) {
+            ids.add(profile.getId());
+        }
+        return ids;
+    }
+    
+    /**
+     * Fingerprint a pack so reloads can tell whether its contents changed.
+     * Packs from the resourcepacks folder are fingerprinted on disk; built-in and
+     * mod packs can't change while the game runs, so their id stands in.
+     * Safe to call off the render thread.
+     */
+    public static long fingerprint(String packId) {
+        Path path = getPackPath(packId);
+        if (path != null) {
+            try {
+                return PackFingerprint.of(path);
+            } catch (Exception e) {
+                DynamicTextureLoader.LOGGER.warn("Failed to fingerprint pack {}: {}", packId, e.getMessage());
+                // Unique per call, so the pack always counts as changed
+                return System.nanoTime();
+            }
+        }
+        
+        return ContentHash.hash64(packId.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Get the folder or archive of a pack from the resourcepacks folder, or null for
+     * built-in and mod packs
+     */
+    @Nullable
+    public static Path getPackPath(String packId) {
+        if (!packId.startsWith(FILE_PACK_PREFIX)) {
+            return null;
+        }
+        return MinecraftClient.getInstance().getResourcePackDir().resolve(packId.substring(FILE_PACK_PREFIX.length()));
+    }
+    
     public ResourcePackProfile getPackByName(String name) {
         MinecraftClient client = MinecraftClient.getInstance();
         
@@ -0,0 +1,88 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.client.renderer.AnimationHandler;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.util.ModelIdentifier;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Canonical binding of an item to a pack texture/model.
+ * One instance exists per distinct (pack, namespace, texture, model) tuple,
+ * created by {@link BindingRegistry}. Identifiers are built once here so
+ * renderers never build strings on the render path.
+ */
+public class TextureBinding {
+    public final int id;
+    public final TextureManager.CustomTextureData data;
+    
+    // Precomputed identifiers
+    public final Identifier textureId;
+    public final Identifier spriteId;
+    public final Identifier mcmetaId;
+    @Nullable
+    public final ModelIdentifier modelId;
+    
+    // Resolved handles, reset on resource reload
+    @Nullable
+    public Sprite sprite;
+    @Nullable
+    public BakedModel model;
+    @Nullable
+    public AnimationHandler.AnimationData animation;
+    public boolean animationResolved;
+    
+    private TextureBinding(int id, TextureManager.CustomTextureData data) {
+        this.id = id;
+        this.data = data;
+        this.textureId = Identifier.of(data.namespace, "textures/item/" + data.texture + ".png");
+        this.spriteId = Identifier.of(data.namespace, "item/" + data.texture);
+        this.mcmetaId = Identifier.of(data.namespace, "textures/item/" + data.texture + ".png.mcmeta");
+        this.modelId = hasModel(data)
+            ? new ModelIdentifier(Identifier.of(data.namespace, data.model), "inventory")
+            : null;
+    }
+    
+    /**
+     * Create a binding, or return null if the item data doesn't form valid identifiers.
+     * The data comes from item NBT, so anything a player or server wrote can show up here.
+     */
+    @Nullable
+    static TextureBinding create(int id, TextureManager.CustomTextureData data) {
+        if (data.namespace == null || data.texture == null
+            || !Identifier.isNamespaceValid(data.namespace)
+            || !Identifier.isPathValid("textures/item/" + data.texture + ".png.mcmeta")
+            || (hasModel(data) && !Identifier.isPathValid(data.model))) {
+            return null;
+        }
+        return new TextureBinding(id, data);
+    }
+    
+    private static boolean hasModel(TextureManager.CustomTextureData data) {
+        return data.model != null && !data.model.isEmpty();
+    }
+    
+    /**
+     * Check if binding replaces the model
+     */
+    public boolean hasModel() {
+        return modelId != null;
+    }
+    
+    /**
+     * Forget resolved sprite, model and animation handles
+     */
+    public void resetHandles() {
+        sprite = null;
+        model = null;
+        animation = null;
+        animationResolved = false;
+    }
+    
+    @Override
+    public String toString() {
+        return "#" + id + " " + data.namespace + ":" + data.texture
+            + (data.model != null ? " (" + data.model + ")" : "");
+    }
+}
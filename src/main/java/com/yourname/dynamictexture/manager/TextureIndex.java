@@ -0,0 +1,257 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.anim.AnimationMetadata;
+import com.yourname.dynamictexture.core.hash.ContentHash;
+import com.yourname.dynamictexture.core.image.PngHeader;
+import com.yourname.dynamictexture.core.io.ResourceBytes;
+import com.yourname.dynamictexture.util.PackReader;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Snapshot of every item texture in the enabled packs, rebuilt once per resource reload.
+ * Existence, size, animation and content hash lookups are map reads instead of resource manager probes.
+ * Entries whose source packs kept the same fingerprint are carried over from the previous snapshot
+ * without reading the files again.
+ */
+public class TextureIndex {
+    private static final String TEXTURE_ROOT = "textures/item";
+    private static final String MCMETA_SUFFIX = ".mcmeta";
+    private static final int SCAN_BATCH = 64;
+    
+    // Replaced as a whole, so readers never see a half-built index
+    private volatile Map<Identifier, Entry> entries;
+    // Pack id to fingerprint for the packs the current entries were read from
+    private volatile Map<String, Long> packFingerprints = Map.of();
+    
+    /**
+     * Whether an index has been built since startup
+     */
+    public boolean isReady() {
+        return entries != null;
+    }
+    
+    /**
+     * Get the entry for a texture id, or null if no enabled pack has it.
+     * Only meaningful once {@link #isReady()}.
+     */
+    @Nullable
+    public Entry get(Identifier textureId) {
+        Map<Identifier, Entry> snapshot = entries;
+        return snapshot != null ? snapshot.get(textureId) : null;
+    }
+    
+    /**
+     * Number of indexed textures
+     */
+    public int size() {
+        Map<Identifier, Entry> snapshot = entries;
+        return snapshot != null ? snapshot.size() : 0;
+    }
+    
+    /**
+     * Get the published entries, or null before the first reload
+     */
+    @Nullable
+    public Map<Identifier, Entry> getEntries() {
+        return entries;
+    }
+    
+    /**
+     * Get the pack fingerprints the published entries were read with
+     */
+    public Map<String, Long> getPackFingerprints() {
+        return packFingerprints;
+    }
+    
+    /**
+     * Scan the item textures and their .mcmeta files on {@code executor}, reading textures in parallel batches.
+     * Entries in {@code previous} whose texture and metadata still come from one of {@code unchangedPacks}
+     * are reused as they are. The result is not visible to lookups until {@link #publish}.
+     */
+    public static CompletableFuture<Map<Identifier, Entry>> scan(ResourceManager manager, Executor executor,
+                                                                 @Nullable Map<Identifier, Entry> previous,
+                                                                 Set<String> unchangedPacks) {
+        return CompletableFuture.supplyAsync(() -> manager.findResources(
+            TEXTURE_ROOT,
+            id -> id.getPath().endsWith(".png") || id.getPath().endsWith(".png" + MCMETA_SUFFIX)
+        ), executor).thenCompose(resources -> {
+            List<Identifier> textures = new ArrayList<>();
+            for (Identifier id : resources.keySet()) {
+                if (id.getPath().endsWith(".png")) {
+                    textures.add(id);
+                }
+            }
+            
+            List<CompletableFuture<List<Entry>>> batches = new ArrayList<>();
+            for (int from = 0; from < textures.size(); from += SCAN_BATCH) {
+                List<Identifier> batch = textures.subList(from, Math.min(textures.size(), from + SCAN_BATCH));
+                batches.add(CompletableFuture.supplyAsync(() -> {
+                    List<Entry> entries = new ArrayList<>(batch.size());
+                    for (Identifier id : batch) {
+                        Resource resource = resources.get(id);
+                        Resource mcmeta = resources.get(id.withPath(id.getPath() + MCMETA_SUFFIX));
+                        Entry old = previous != null ? previous.get(id) : null;
+                        entries.add(canReuse(old, resource, mcmeta, unchangedPacks)
+                            ? old
+                            : readEntry(id, resource, mcmeta));
+                    }
+                    return entries;
+                }, executor));
+            }
+            
+            return CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).thenApply(done -> {
+                Map<Identifier, Entry> index = new HashMap<>(textures.size() * 4 / 3 + 1);
+                for (CompletableFuture<List<Entry>> batch : batches) {
+                    for (Entry entry : batch.join()) {
+                        index.put(entry.id, entry);
+                    }
+                }
+                return Collections.unmodifiableMap(index);
+            });
+        });
+    }
+    
+    /**
+     * Make a scanned index the one lookups see
+     */
+    public void publish(Map<Identifier, Entry> index, Map<String, Long> fingerprints) {
+        entries = index;
+        packFingerprints = fingerprints;
+        DynamicTextureLoader.LOGGER.info("Indexed {} textures", index.size());
+    }
+    
+    /**
+     * Texture ids that were added, removed or whose content changed between two scans
+     */
+    public static Set<Identifier> diff(Map<Identifier, Entry> previous, Map<Identifier, Entry> current) {
+        Set<Identifier> changed = new HashSet<>();
+        for (Entry entry : current.values()) {
+            Entry old = previous.get(entry.id);
+            if (old == null || !old.hasSameContent(entry)) {
+                changed.add(entry.id);
+            }
+        }
+        for (Identifier id : previous.keySet()) {
+            if (!current.containsKey(id)) {
+                changed.add(id);
+            }
+        }
+        return changed;
+    }
+    
+    /**
+     * Whether an old entry still describes the winning texture and metadata resources
+     */
+    private static boolean canReuse(@Nullable Entry old, Resource resource, @Nullable Resource mcmeta,
+                                    Set<String> unchangedPacks) {
+        if (old == null || !old.pack.equals(resource.getPackId()) || !unchangedPacks.contains(old.pack)) {
+            return false;
+        }
+        
+        String mcmetaPack = mcmeta != null ? mcmeta.getPackId() : null;
+        return Objects.equals(old.mcmetaPack, mcmetaPack)
+            && (mcmetaPack == null || unchangedPacks.contains(mcmetaPack));
+    }
+    
+    /**
+     * Read one texture fully once, for its header and hash, without copying it to the heap
+     */
+    private static Entry readEntry(Identifier id, Resource resource, @Nullable Resource mcmeta) {
+        PngHeader header = null;
+        long contentHash = 0;
+        
+        try (ResourceBytes bytes = PackReader.getInstance().read(id, resource)) {
+            contentHash = ContentHash.hash64(bytes.buffer());
+            header = PngHeader.read(bytes.buffer());
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.warn("Unreadable texture {}: {}", id, e.getMessage());
+        }
+        
+        AnimationMetadata animation = null;
+        if (mcmeta != null) {
+            try (InputStreamReader reader = new InputStreamReader(mcmeta.getInputStream(), StandardCharsets.UTF_8)) {
+                animation = AnimationMetadata.parse(reader);
+            } catch (Exception e) {
+                DynamicTextureLoader.LOGGER.warn("Invalid animation metadata for {}: {}", id, e.getMessage());
+            }
+        }
+        
+        return new Entry(id, resource.getPackId(), mcmeta != null ? mcmeta.getPackId() : null,
+            header, animation, contentHash);
+    }
+    
+    /**
+     * What the index knows about one texture
+     */
+    public static class Entry {
+        public final Identifier id;
+        // Pack that supplies the texture after overrides
+        public final String pack;
+        // Pack that supplies the .mcmeta, which can differ from the texture's
+        @Nullable
+        public final String mcmetaPack;
+        // Null if the file isn't a valid PNG
+        @Nullable
+        public final PngHeader header;
+        @Nullable
+        public final AnimationMetadata animation;
+        public final long contentHash;
+        public final int frameCount;
+        
+        public Entry(Identifier id, String pack, @Nullable String mcmetaPack, @Nullable PngHeader header,
+                     @Nullable AnimationMetadata animation, long contentHash) {
+            this.id = id;
+            this.pack = pack;
+            this.mcmetaPack = mcmetaPack;
+            this.header = header;
+            this.animation = animation;
+            this.contentHash = contentHash;
+            this.frameCount = countFrames(header);
+        }
+        
+        public boolean isValid() {
+            return header != null;
+        }
+        
+        /**
+         * Whether both entries describe the same pixels and animation.
+         * Parsed animations have no value equality, so an animated entry only matches itself.
+         */
+        public boolean hasSameContent(Entry other) {
+            if (other == this) {
+                return true;
+            }
+            return contentHash == other.contentHash
+                && isValid() == other.isValid()
+                && animation == null && other.animation == null
+                && mcmetaPack == null && other.mcmetaPack == null;
+        }
+        
+        /**
+         * Frames stacked vertically, as for animated textures
+         */
+        private static int countFrames(@Nullable PngHeader header) {
+            if (header != null && header.height > header.width && header.height % header.width == 0) {
+                return header.height / header.width;
+            }
+            return 1;
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.yourname.dynamictexture.manager;
 
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.RenderStats;
+import com.yourname.dynamictexture.core.cache.LRUCache;
 import com.yourname.dynamictexture.util.NBTHelper;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
 import net.minecraft.util.Identifier;
 
+import java.util.Map;
+
+/**
+ * Reads and writes custom texture tags on item stacks.
+ * Client thread only; the binding memo and {@link BindingRegistry} are not thread-safe.
+ */
 public class TextureManager {
+    private static final String NBT_KEY = "DynamicTexture";
+    private static final int MEMO_SIZE = 1024;
+    
+    // Parsed bindings per DynamicTexture compound, compared by content; null for invalid data
+    private final Map<NbtCompound, TextureBinding> bindingMemo = new LRUCache<>(MEMO_SIZE);
     
     public boolean applyCustomTexture(ItemStack stack, String packId, String namespace, String textureName, String modelName) {
         try {
@@ -24,7 +38,7 @@ public class TextureManager {
                 customData.putString("model", modelName);
             }
             
-            nbt.put("DynamicTexture", customData);
+            nbt.put(NBT_KEY, customData);
             
             DynamicTextureLoader.LOGGER.info("Applied texture {} from pack {}", textureName, packId);
             return true;
@@ -35,23 +49,64 @@ public class TextureManager {
         }
     }
     
+    /**
+     * Get custom texture data for a stack
+     */
     public CustomTextureData getCustomTexture(ItemStack stack) {
+        TextureBinding binding = getBinding(stack);
+        return binding != null ? binding.data : null;
+    }
+    
+    /**
+     * Get the interned binding for a stack.
+     * Results are memoized by the content of the DynamicTexture compound, so stacks
+     * copied every frame for held items and GUIs hit as well, and edited data misses.
+     */
+    public TextureBinding getBinding(ItemStack stack) {
         if (!stack.hasNbt()) {
             return null;
         }
         
         NbtCompound nbt = stack.getNbt();
-        if (nbt == null || !nbt.contains("DynamicTexture")) {
+        if (nbt == null) {
+            return null;
+        }
+        
+        NbtElement element = nbt.get(NBT_KEY);
+        if (!(element instanceof NbtCompound customData)) {
             return null;
         }
         
-        NbtCompound customData = nbt.getCompound("DynamicTexture");
-        return new CustomTextureData(
+        TextureBinding binding = bindingMemo.get(customData);
+        if (binding != null || bindingMemo.containsKey(customData)) {
+            RenderStats.getInstance().cacheHits.increment();
+            return binding;
+        }
+        
+        RenderStats.getInstance().cacheMisses.increment();
+        binding = DynamicTextureLoader.bindingRegistry.intern(
             customData.getString("pack"),
             customData.getString("namespace"),
             customData.getString("texture"),
             customData.contains("model") ? customData.getString("model") : null
         );
+        // Copied, since the stack's own compound can still be edited in place
+        bindingMemo.put(customData.copy(), binding);
+        return binding;
+    }
+    
+    /**
+     * Drop all memoized data
+     */
+    public void clearMemo() {
+        bindingMemo.clear();
+    }
+    
+    /**
+     * Get number of memoized compounds
+     */
+    public int getMemoSize() {
+        return bindingMemo.size();
     }
     
     public static class CustomTextureData {
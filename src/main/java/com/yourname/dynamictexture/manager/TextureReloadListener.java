@@ -0,0 +1,271 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.UploadScheduler;
+import com.yourname.dynamictexture.config.TextureProfile;
+import com.yourname.dynamictexture.core.image.MipChain;
+import com.yourname.dynamictexture.core.io.ResourceBytes;
+import com.yourname.dynamictexture.util.MipCache;
+import com.yourname.dynamictexture.util.NativeImagePixels;
+import com.yourname.dynamictexture.util.PackReader;
+import com.yourname.dynamictexture.util.TextureEvents;
+import com.yourname.dynamictexture.util.TextureHelper;
+import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceReloader;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Rebuilds texture state on resource reload in two phases.
+ * Prepare runs on the reload workers: it fingerprints the enabled packs, indexes the item textures
+ * and decodes the changed ones saved profiles use. Apply runs on the render thread once every
+ * listener has prepared: it publishes the new index, drops state for textures whose content changed
+ * and fills it from the prepared data, so the first frames after a reload don't all miss at once.
+ * Caches holding baked models or sprites are always cleared, since the game rebuilds those objects.
+ */
+public class TextureReloadListener implements IdentifiableResourceReloadListener {
+    
+    @Override
+    public Identifier getFabricId() {
+        return Identifier.of(DynamicTextureLoader.MOD_ID, "resource_reload");
+    }
+    
+    @Override
+    public CompletableFuture<Void> reload(ResourceReloader.Synchronizer synchronizer, ResourceManager manager,
+                                          Executor prepareExecutor, Executor applyExecutor) {
+        // Archives may have been replaced on disk since they were mapped
+        PackReader.getInstance().clear();
+        
+        // Profiles, packs and the published index only change on the render thread, which starts the reload
+        Map<Identifier, TextureIndex.Entry> previous = DynamicTextureLoader.textureIndex.getEntries();
+        Map<String, Long> previousFingerprints = DynamicTextureLoader.textureIndex.getPackFingerprints();
+        List<String> packIds = DynamicTextureLoader.resourcePackManager.getEnabledPackIds();
+        Set<Identifier> profileTextures = new LinkedHashSet<>();
+        for (TextureProfile profile : DynamicTextureLoader.profileManager.getProfiles()) {
+            if (profile.namespace != null && profile.texture != null) {
+                profileTextures.add(TextureHelper.getTextureIdentifier(profile.namespace, profile.texture));
+            }
+        }
+        
+        CompletableFuture<Prepared> prepare = CompletableFuture
+            .supplyAsync(() -> fingerprintAll(packIds), prepareExecutor)
+            .thenCompose(fingerprints -> TextureIndex
+                .scan(manager, prepareExecutor, previous, unchangedPacks(previousFingerprints, fingerprints))
+                .thenCompose(index -> {
+                    // Null on the first reload, when everything counts as changed
+                    Set<Identifier> changed = previous != null ? TextureIndex.diff(previous, index) : null;
+                    Set<Identifier> toDecode = new LinkedHashSet<>(profileTextures);
+                    if (changed != null) {
+                        toDecode.retainAll(changed);
+                    }
+                    return decodeAll(manager, index, toDecode, prepareExecutor)
+                        .thenApply(textures -> new Prepared(index, fingerprints, changed, textures));
+                }));
+        
+        return prepare
+            .thenCompose(synchronizer::whenPrepared)
+            .thenAcceptAsync(this::apply, applyExecutor)
+            .whenComplete((result, error) -> {
+                // A reload that fails after prepare never reaches apply, which owns the images
+                if (error != null && prepare.isDone() && !prepare.isCompletedExceptionally()) {
+                    prepare.join().close();
+                }
+            });
+    }
+    
+    private static Map<String, Long> fingerprintAll(List<String> packIds) {
+        Map<String, Long> fingerprints = new HashMap<>();
+        for (String packId : packIds) {
+            fingerprints.put(packId, ResourcePackManager.fingerprint(packId));
+        }
+        return fingerprints;
+    }
+    
+    /**
+     * Packs enabled both before and now whose fingerprint did not change
+     */
+    private static Set<String> unchangedPacks(Map<String, Long> previous, Map<String, Long> current) {
+        Set<String> unchanged = new HashSet<>();
+        for (Map.Entry<String, Long> pack : current.entrySet()) {
+            if (pack.getValue().equals(previous.get(pack.getKey()))) {
+                unchanged.add(pack.getKey());
+            }
+        }
+        return unchanged;
+    }
+    
+    /**
+     * Decode each distinct indexed texture in parallel, once per content hash;
+     * missing or broken ones are left out
+     */
+    private static CompletableFuture<List<PreparedTexture>> decodeAll(ResourceManager manager,
+                                                                     Map<Identifier, TextureIndex.Entry> index,
+                                                                     Set<Identifier> textureIds, Executor executor) {
+        Map<Long, List<Identifier>> byContent = new LinkedHashMap<>();
+        for (Identifier id : textureIds) {
+            TextureIndex.Entry entry = index.get(id);
+            if (entry != null && entry.isValid()) {
+                byContent.computeIfAbsent(entry.contentHash, hash -> new ArrayList<>()).add(id);
+            }
+        }
+        
+        List<CompletableFuture<PreparedTexture>> decodes = new ArrayList<>();
+        for (Map.Entry<Long, List<Identifier>> content : byContent.entrySet()) {
+            decodes.add(CompletableFuture.supplyAsync(
+                () -> decode(manager, content.getKey(), content.getValue()), executor
+            ));
+        }
+        
+        return CompletableFuture.allOf(decodes.toArray(new CompletableFuture[0])).thenApply(done -> {
+            List<PreparedTexture> textures = new ArrayList<>();
+            for (CompletableFuture<PreparedTexture> decode : decodes) {
+                PreparedTexture texture = decode.join();
+                if (texture != null) {
+                    textures.add(texture);
+                }
+            }
+            return textures;
+        });
+    }
+    
+    private static PreparedTexture decode(ResourceManager manager, long contentHash, List<Identifier> ids) {
+        Identifier id = ids.get(0);
+        Optional<Resource> resource = manager.getResource(id);
+        if (resource.isEmpty()) {
+            return null;
+        }
+        
+        try (ResourceBytes bytes = PackReader.getInstance().read(id, resource.get())) {
+            NativeImage image = NativeImage.read(bytes.buffer());
+            try {
+                int[] pixels = new int[image.getWidth() * image.getHeight()];
+                NativeImagePixels.read(image, pixels);
+                MipChain mips = MipChain.generate(pixels, image.getWidth(), image.getHeight());
+                return new PreparedTexture(ids, contentHash, image, mips);
+            } catch (Exception e) {
+                image.close();
+                throw e;
+            }
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.warn("Failed to preload texture {}: {}", id, e.getMessage());
+            return null;
+        }
+    }
+    
+    private void apply(Prepared prepared) {
+        try {
+            DynamicTextureLoader.LOGGER.info("Resource packs reloaded, clearing caches...");
+            
+            DynamicTextureLoader.textureIndex.publish(prepared.index, prepared.fingerprints);
+            
+            // These hold baked models, sprites and handles to them, which the game rebuilds on every reload
+            clearCache("models", () -> DynamicTextureLoader.modelCache.clearModels());
+            clearCache("item_renderer", () -> DynamicTextureLoader.customItemRenderer.clearCache());
+            clearCache("atlas", () -> DynamicTextureLoader.textureAtlasManager.clearCache());
+            clearCache("missing_resources", () -> DynamicTextureLoader.missingResourceCache.clear());
+            clearCache("retextured_models", () -> DynamicTextureLoader.retexturedModelCache.clearCache());
+            
+            // Texture content state only goes stale when a texture's source changed
+            if (prepared.changed == null) {
+                clearCache("textures", () -> DynamicTextureLoader.modelCache.clear());
+                clearCache("animations", () -> DynamicTextureLoader.animationHandler.clearCache());
+                clearCache("mip_chains", () -> MipCache.getInstance().clear());
+            } else {
+                Set<Identifier> changed = prepared.changed;
+                clearCache("textures", () -> DynamicTextureLoader.modelCache.invalidateTextures(changed));
+                clearCache("animations", () -> DynamicTextureLoader.animationHandler.invalidate(changed));
+                clearCache("mip_chains", () -> MipCache.getInstance().invalidate(changed));
+                clearCache("dynamic_sprites", () -> {
+                    for (Identifier id : changed) {
+                        DynamicTextureLoader.textureAtlasManager.unregisterSprite(id);
+                    }
+                });
+            }
+            
+            // Warm what saved profiles will ask for first; ids with the same content share one chain and region
+            for (PreparedTexture texture : prepared.textures) {
+                for (Identifier id : texture.ids) {
+                    MipCache.getInstance().put(id, texture.contentHash, texture.mips);
+                    // Replace any region holding the previous pack's pixels
+                    DynamicTextureLoader.textureAtlasManager.unregisterSprite(id);
+                    DynamicTextureLoader.textureAtlasManager.registerDynamicSprite(
+                        id, texture.contentHash, texture.image, UploadScheduler.Priority.PRELOAD
+                    );
+                }
+            }
+            
+            DynamicTextureLoader.LOGGER.info("Caches cleared, {} textures changed, {} profile textures preloaded",
+                prepared.changed != null ? prepared.changed.size() : prepared.index.size(), prepared.textures.size());
+        } finally {
+            prepared.close();
+        }
+    }
+    
+    /**
+     * Run one cache clear, recording it as a JFR event when enabled
+     */
+    private static void clearCache(String name, Runnable clear) {
+        TextureEvents.CacheClear event = TextureEvents.CacheClear.start();
+        clear.run();
+        if (event != null) {
+            event.cache = name;
+            event.commit();
+        }
+    }
+    
+    private static class Prepared {
+        final Map<Identifier, TextureIndex.Entry> index;
+        final Map<String, Long> fingerprints;
+        // Null when there was no previous index to compare against
+        @Nullable
+        final Set<Identifier> changed;
+        final List<PreparedTexture> textures;
+        
+        Prepared(Map<Identifier, TextureIndex.Entry> index, Map<String, Long> fingerprints,
+                 @Nullable Set<Identifier> changed, List<PreparedTexture> textures) {
+            this.index = index;
+            this.fingerprints = fingerprints;
+            this.changed = changed;
+            this.textures = textures;
+        }
+        
+        /**
+         * Free the decoded images; safe to call more than once
+         */
+        void close() {
+            for (PreparedTexture texture : textures) {
+                texture.image.close();
+            }
+        }
+    }
+    
+    private static class PreparedTexture {
+        // Every requested id whose bytes hash to this content
+        final List<Identifier> ids;
+        final long contentHash;
+        final NativeImage image;
+        final MipChain mips;
+        
+        PreparedTexture(List<Identifier> ids, long contentHash, NativeImage image, MipChain mips) {
+            this.ids = ids;
+            this.contentHash = contentHash;
+            this.image = image;
+            this.mips = mips;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.yourname.dynamictexture.mixin;
+
+import com.yourname.dynamictexture.client.renderer.RenderStats;
+import net.minecraft.client.gui.hud.DebugHud;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+
+@Mixin(DebugHud.class)
+public class DebugHudMixin {
+    
+    @Inject(method = "getRightText", at = @At("RETURN"))
+    private void addRenderStats(CallbackInfoReturnable<List<String>> cir) {
+        cir.getReturnValue().addAll(RenderStats.getInstance().getDebugLines());
+    }
+}
@@ -0,0 +1,20 @@
+package com.yourname.dynamictexture.mixin;
+
+import com.yourname.dynamictexture.client.renderer.UploadScheduler;
+import com.yourname.dynamictexture.util.TextureDecodePool;
+import net.minecraft.client.render.GameRenderer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(GameRenderer.class)
+public class GameRendererMixin {
+    
+    @Inject(method = "render", at = @At("HEAD"))
+    private void onRenderStart(CallbackInfo ci) {
+        // Hand finished decodes back, then drain uploads within this frame's budget
+        TextureDecodePool.getInstance().drainCompleted();
+        UploadScheduler.getInstance().drain();
+    }
+}
@@ -1,10 +1,38 @@
 package com.yourname.dynamictexture.mixin;
 
-import org.spongepowered.asm.mixin.Mixin;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import net.minecraft.client.render.VertexConsumerProvider;
 import net.minecraft.client.render.entity.feature.HeldItemFeatureRenderer;
+import net.minecraft.client.render.model.json.ModelTransformationMode;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.Arm;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+/**
+ * Items held by players and mobs reach ItemRenderer.renderItem, where
+ * ItemRendererMixin swaps the model through the shared cached binding path.
+ * This mixin only marks the entity context so that path can tell held items
+ * apart; it does no lookup of its own.
+ */
 @Mixin(HeldItemFeatureRenderer.class)
 public class HeldItemFeatureRendererMixin {
-    // TODO: Implement custom texture rendering for held items
-    // This will modify the texture used when rendering items in hand
+    
+    @Inject(method = "renderItem", at = @At("HEAD"))
+    private void onRenderItemStart(LivingEntity entity, ItemStack stack, ModelTransformationMode transformationMode,
+                                   Arm arm, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                   int light, CallbackInfo ci) {
+        DynamicTextureLoader.customItemRenderer.beginHeldItem();
+    }
+
+    @Inject(method = "renderItem", at = @At("RETURN"))
+    private void onRenderItemEnd(LivingEntity entity, ItemStack stack, ModelTransformationMode transformationMode,
+                                 Arm arm, MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+                                 int light, CallbackInfo ci) {
+        DynamicTextureLoader.customItemRenderer.endHeldItem();
+    }
 }
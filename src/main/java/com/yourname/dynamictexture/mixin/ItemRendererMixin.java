@@ -1,12 +1,9 @@
 package com.yourname.dynamictexture.mixin;
 
 import com.yourname.dynamictexture.DynamicTextureLoader;
-import com.yourname.dynamictexture.manager.TextureManager;
 import net.minecraft.client.render.item.ItemRenderer;
 import net.minecraft.client.render.model.BakedModel;
-import net.minecraft.client.util.ModelIdentifier;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.Identifier;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.ModifyVariable;
@@ -20,14 +17,7 @@ public class ItemRendererMixin {
         argsOnly = true
     )
     private BakedModel modifyModel(BakedModel original, ItemStack stack) {
-        TextureManager.CustomTextureData data = DynamicTextureLoader.textureManager.getCustomTexture(stack);
-        
-        if (data != null && data.model != null) {
-            // TODO: Load custom model from resource pack
-            // This is a placeholder - actual implementation requires model loading
-            DynamicTextureLoader.LOGGER.debug("Custom model detected: {}", data.model);
-        }
-        
-        return original;
+        // Custom model or retextured original, drawn through the vanilla item layer
+        return DynamicTextureLoader.customItemRenderer.resolveModel(stack, original);
     }
 }
@@ -0,0 +1,12 @@
+package com.yourname.dynamictexture.mixin;
+
+import net.minecraft.client.texture.NativeImage;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+@Mixin(NativeImage.class)
+public interface NativeImageAccessor {
+    
+    @Accessor("pointer")
+    long getPointer();
+}
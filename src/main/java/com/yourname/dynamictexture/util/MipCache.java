@@ -0,0 +1,175 @@
+package com.yourname.dynamictexture.util;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.cache.ContentStore;
+import com.yourname.dynamictexture.core.image.MipChain;
+import net.minecraft.client.texture.NativeImage;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Mip chains of decoded textures, so repeated thumbnail and preview requests resample
+ * a cached level instead of decoding the PNG again.
+ * Chains are shared by content hash, so textures with identical bytes under different names
+ * or packs decode once and count once. Bounded by {@code mipCacheBudgetMb}, least recently
+ * used name first; chains larger than the whole budget are built and returned but not kept.
+ * Chains of textures whose content changed are dropped on resource reload.
+ */
+public class MipCache {
+    private static final MipCache INSTANCE = new MipCache();
+    // Texture id to content hash, in access order
+    private final Map<Identifier, Long> names = new LinkedHashMap<>(16, 0.75f, true);
+    private final ContentStore<MipChain> chains = new ContentStore<>(this::onRelease);
+    private long cachedPixels = 0;
+    
+    private MipCache() {
+    }
+    
+    public static MipCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get the mip chain of a texture, decoding it on a miss. Safe to call from decode threads.
+     */
+    @Nullable
+    public MipChain get(String namespace, String textureName) {
+        Identifier textureId = TextureHelper.getTextureIdentifier(namespace, textureName);
+        
+        MipChain chain = getIfPresent(namespace, textureName);
+        if (chain != null) {
+            return chain;
+        }
+        
+        long contentHash = TextureHelper.getContentHash(namespace, textureName);
+        if (contentHash == 0) {
+            return null;
+        }
+        
+        // Another name with the same bytes may already have been decoded
+        synchronized (this) {
+            chain = chains.acquire(contentHash);
+            if (chain != null) {
+                link(textureId, contentHash);
+                return chain;
+            }
+        }
+        
+        // Decode outside the lock; a concurrent miss on the same texture just builds it twice
+        NativeImage image = TextureHelper.loadTexture(namespace, textureName);
+        if (image == null) {
+            return null;
+        }
+        
+        try {
+            int[] pixels = new int[image.getWidth() * image.getHeight()];
+            NativeImagePixels.read(image, pixels);
+            chain = MipChain.generate(pixels, image.getWidth(), image.getHeight());
+        } finally {
+            image.close();
+        }
+        
+        return put(textureId, contentHash, chain);
+    }
+    
+    /**
+     * Get the mip chain of a texture only if it is already cached
+     */
+    @Nullable
+    public synchronized MipChain getIfPresent(String namespace, String textureName) {
+        Long contentHash = names.get(TextureHelper.getTextureIdentifier(namespace, textureName));
+        return contentHash != null ? chains.get(contentHash) : null;
+    }
+    
+    /**
+     * Cache a chain built elsewhere, such as during a resource reload.
+     * Returns the chain now cached for the content, which is an existing one if another
+     * name with the same content got there first.
+     */
+    public synchronized MipChain put(Identifier textureId, long contentHash, MipChain chain) {
+        long budget = getBudgetPixels();
+        if (chain.pixelCount() > budget) {
+            DynamicTextureLoader.LOGGER.debug("Mip chain for {} exceeds the cache budget, not caching", textureId);
+            return chain;
+        }
+        
+        Long previous = names.get(textureId);
+        if (previous != null && previous == contentHash) {
+            return chains.get(contentHash);
+        }
+        
+        unlink(textureId);
+        MipChain stored = chains.add(contentHash, chain);
+        if (stored == chain) {
+            cachedPixels += chain.pixelCount();
+        }
+        names.put(textureId, contentHash);
+        
+        Iterator<Map.Entry<Identifier, Long>> eldest = names.entrySet().iterator();
+        while (cachedPixels > budget && eldest.hasNext()) {
+            long evicted = eldest.next().getValue();
+            eldest.remove();
+            chains.release(evicted);
+        }
+        return stored;
+    }
+    
+    /**
+     * Drop the chains of the given textures; a chain stays while other names still share it
+     */
+    public synchronized void invalidate(Collection<Identifier> textureIds) {
+        for (Identifier textureId : textureIds) {
+            unlink(textureId);
+        }
+    }
+    
+    /**
+     * Drop all chains
+     */
+    public synchronized void clear() {
+        int count = names.size();
+        names.clear();
+        chains.clear();
+        cachedPixels = 0;
+        DynamicTextureLoader.LOGGER.info("Cleared {} mip chains from cache", count);
+    }
+    
+    /**
+     * Get number of cached texture names
+     */
+    public synchronized int getCacheSize() {
+        return names.size();
+    }
+    
+    /**
+     * Get number of distinct chains behind the cached names
+     */
+    public synchronized int getUniqueCount() {
+        return chains.size();
+    }
+    
+    private void link(Identifier textureId, long contentHash) {
+        unlink(textureId);
+        names.put(textureId, contentHash);
+    }
+    
+    private void unlink(Identifier textureId) {
+        Long contentHash = names.remove(textureId);
+        if (contentHash != null) {
+            chains.release(contentHash);
+        }
+    }
+    
+    private void onRelease(MipChain chain) {
+        cachedPixels -= chain.pixelCount();
+    }
+    
+    private static long getBudgetPixels() {
+        return (long) DynamicTextureLoader.config.mipCacheBudgetMb * 1024 * 1024 / Integer.BYTES;
+    }
+}
@@ -0,0 +1,89 @@
+package com.yourname.dynamictexture.util;
+
+import com.yourname.dynamictexture.core.image.Argb;
+import com.yourname.dynamictexture.mixin.NativeImageAccessor;
+import net.minecraft.client.texture.NativeImage;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.IntBuffer;
+
+/**
+ * Bulk transfer between NativeImage and row-major arrays.
+ * Arrays are always ARGB, the order core kernels use; images are always the
+ * native ABGR of {@link NativeImage.Format#RGBA}, copied through a direct
+ * IntBuffer view of the native buffer. Other formats are rejected.
+ * Without mixins applied (plain JVM benchmarks and tests) there is no pointer
+ * to view, so pixels go through getColor/setColor instead.
+ */
+public class NativeImagePixels {
+    
+    /**
+     * Copy all pixels of the image into {@code dst} as ARGB
+     *
+     * @throws IllegalArgumentException if the image isn't RGBA
+     */
+    public static void read(NativeImage image, int[] dst) {
+        int width = image.getWidth();
+        int count = width * image.getHeight();
+        IntBuffer view = view(image);
+        if (view != null) {
+            view.get(dst, 0, count);
+        } else {
+            for (int i = 0; i < count; i++) {
+                dst[i] = image.getColor(i % width, i / width);
+            }
+        }
+        Argb.swapRedBlue(dst, count);
+    }
+    
+    /**
+     * Copy a row-major ARGB array over all pixels of the image; {@code src} is not modified
+     *
+     * @throws IllegalArgumentException if the image isn't RGBA
+     */
+    public static void write(int[] src, NativeImage image) {
+        int width = image.getWidth();
+        int count = width * image.getHeight();
+        IntBuffer view = view(image);
+        if (view != null) {
+            for (int i = 0; i < count; i++) {
+                view.put(i, Argb.swapRedBlue(src[i]));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                image.setColor(i % width, i / width, Argb.swapRedBlue(src[i]));
+            }
+        }
+    }
+    
+    /**
+     * Create an RGBA image from a row-major ARGB array
+     */
+    public static NativeImage create(int[] src, int width, int height) {
+        NativeImage image = new NativeImage(width, height, false);
+        write(src, image);
+        return image;
+    }
+    
+    /**
+     * Direct view of the image's ABGR pixels, or null when the accessor mixin isn't applied
+     */
+    @Nullable
+    private static IntBuffer view(NativeImage image) {
+        if (image.getFormat() != NativeImage.Format.RGBA) {
+            throw new IllegalArgumentException("Expected an RGBA image, got " + image.getFormat());
+        }
+        
+        if (!((Object) image instanceof NativeImageAccessor accessor)) {
+            return null;
+        }
+        
+        long pointer = accessor.getPointer();
+        if (pointer == 0L) {
+            throw new IllegalStateException("Image is closed");
+        }
+        
+        return MemoryUtil.memIntBuffer(pointer, image.getWidth() * image.getHeight());
+    }
+}
@@ -0,0 +1,183 @@
+package com.yourname.dynamictexture.util;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.io.BufferPool;
+import com.yourname.dynamictexture.core.io.MappedZip;
+import com.yourname.dynamictexture.core.io.ResourceBytes;
+import com.yourname.dynamictexture.manager.ResourcePackManager;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.resource.Resource;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads resource bytes straight from pack files instead of copying them through the resource stream.
+ * Zip packs are mapped once and stored entries are sliced out of the mapping; deflated entries
+ * inflate into pooled direct buffers. Files in folder packs are read into a pooled buffer, so no
+ * mapping is left holding them open. Built-in and mod packs, and anything that fails, go through
+ * the stream into a pooled buffer. Safe to call from decode threads.
+ */
+public class PackReader {
+    private static final PackReader INSTANCE = new PackReader();
+    private static final int STREAM_CHUNK = 16 * 1024;
+    private static final String PACK_METADATA = "pack.mcmeta";
+    
+    private final BufferPool pool = new BufferPool(4 * 1024 * 1024, 8);
+    // Empty for archives MappedZip can't read, so they aren't retried every call
+    private final Map<Path, Optional<MappedZip>> zips = new ConcurrentHashMap<>();
+    private final Map<Path, Boolean> directPacks = new ConcurrentHashMap<>();
+    
+    private PackReader() {
+    }
+    
+    public static PackReader getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Read the bytes of a resource from the resource manager, or null if no pack has it.
+     * The caller must close the result.
+     */
+    @Nullable
+    public ResourceBytes read(Identifier id) throws IOException {
+        Optional<Resource> resource = MinecraftClient.getInstance().getResourceManager().getResource(id);
+        return resource.isPresent() ? read(id, resource.get()) : null;
+    }
+    
+    /**
+     * Read the bytes of a resource found under {@code id}. The caller must close the result.
+     */
+    public ResourceBytes read(Identifier id, Resource resource) throws IOException {
+        Path pack = ResourcePackManager.getPackPath(resource.getPackId());
+        if (pack != null && canReadDirectly(pack)) {
+            String entryName = "assets/" + id.getNamespace() + "/" + id.getPath();
+            try {
+                ResourceBytes bytes = Files.isDirectory(pack)
+                    ? readFile(pack.resolve(entryName))
+                    : readZipEntry(pack, entryName);
+                if (bytes != null) {
+                    return bytes;
+                }
+            } catch (IOException e) {
+                DynamicTextureLoader.LOGGER.debug("Reading {} through its stream: {}", id, e.getMessage());
+            }
+        }
+        
+        try (InputStream stream = resource.getInputStream()) {
+            return readStream(stream);
+        }
+    }
+    
+    /**
+     * Close mapped archives; called when packs may have changed on disk.
+     * Each archive is unmapped once the entries already read from it are closed.
+     */
+    public void clear() {
+        for (Path path : zips.keySet()) {
+            Optional<MappedZip> zip = zips.remove(path);
+            if (zip != null) {
+                zip.ifPresent(MappedZip::close);
+            }
+        }
+        directPacks.clear();
+    }
+    
+    /**
+     * Whether files can be found at their plain {@code assets/} path. Packs with overlays may
+     * serve a resource from an overlay folder instead, so those always use the stream.
+     */
+    private boolean canReadDirectly(Path pack) {
+        return directPacks.computeIfAbsent(pack, path -> {
+            try (ResourceBytes metadata = Files.isDirectory(path)
+                ? readFile(path.resolve(PACK_METADATA))
+                : readZipEntry(path, PACK_METADATA)) {
+                if (metadata == null) {
+                    return false;
+                }
+                JsonElement root = JsonParser.parseString(StandardCharsets.UTF_8.decode(metadata.buffer()).toString());
+                return root.isJsonObject() && !root.getAsJsonObject().has("overlays");
+            } catch (IOException | JsonParseException e) {
+                return false;
+            }
+        });
+    }
+    
+    @Nullable
+    private ResourceBytes readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to buffer: " + file);
+            }
+            
+            ByteBuffer buffer = pool.acquire((int) size);
+            try {
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                pool.release(buffer);
+                throw e;
+            }
+            return ResourceBytes.pooled(buffer.flip(), pool);
+        } catch (NoSuchFileException e) {
+            // Renamed since the last reload; let the stream path report it
+            return null;
+        }
+    }
+    
+    @Nullable
+    private ResourceBytes readZipEntry(Path archive, String entryName) throws IOException {
+        Optional<MappedZip> zip = zips.computeIfAbsent(archive, path -> {
+            try {
+                return Optional.of(MappedZip.open(path));
+            } catch (IOException e) {
+                DynamicTextureLoader.LOGGER.debug("Not mapping {}: {}", path, e.getMessage());
+                return Optional.empty();
+            }
+        });
+        return zip.isPresent() ? zip.get().read(entryName, pool) : null;
+    }
+    
+    /**
+     * Drain a stream into a pooled buffer, growing it as needed
+     */
+    private ResourceBytes readStream(InputStream stream) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(stream);
+        ByteBuffer buffer = pool.acquire(Math.max(STREAM_CHUNK, stream.available()));
+        try {
+            while (channel.read(buffer) >= 0) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer larger = pool.acquire(buffer.capacity() * 2);
+                    larger.put(buffer.flip());
+                    pool.release(buffer);
+                    buffer = larger;
+                }
+            }
+        } catch (IOException e) {
+            pool.release(buffer);
+            throw e;
+        }
+        return ResourceBytes.pooled(buffer.flip(), pool);
+    }
+}
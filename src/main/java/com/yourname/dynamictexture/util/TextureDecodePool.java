@@ -0,0 +1,231 @@
+package com.yourname.dynamictexture.util;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import net.minecraft.client.texture.NativeImage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bounded worker pool for PNG decoding and other off-thread texture work.
+ * Identical in-flight requests share one decode, results are handed back to
+ * the render thread through a lock-free queue, and futures can be cancelled.
+ */
+public class TextureDecodePool {
+    private static final TextureDecodePool INSTANCE = new TextureDecodePool();
+    private final Map<String, Request<?>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<Request<?>> completed = new ConcurrentLinkedQueue<>();
+    private ExecutorService executor;
+    
+    private TextureDecodePool() {
+    }
+    
+    public static TextureDecodePool getInstance() {
+        return INSTANCE;
+    }
+    
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            int threads = Math.max(1, DynamicTextureLoader.config.decodeThreads);
+            AtomicInteger counter = new AtomicInteger();
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                threads, threads, 30L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "DynamicTexture Decode #" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+    
+    /**
+     * Decode an image off-thread. Every caller gets its own image and must close it.
+     */
+    public CompletableFuture<NativeImage> submitImage(String key, Supplier<NativeImage> task) {
+        return submit(key, task, TextureDecodePool::copyImage, NativeImage::close);
+    }
+    
+    /**
+     * Run a task off-thread whose result is immutable and can be shared
+     */
+    public <T> CompletableFuture<T> submitValue(String key, Supplier<T> task) {
+        return submit(key, task, UnaryOperator.identity(), value -> {});
+    }
+    
+    /**
+     * Run a task off-thread, joining an identical in-flight request if there is one.
+     * The future completes on the render thread.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> submit(String key, Supplier<T> task, UnaryOperator<T> share, Consumer<T> discard) {
+        CompletableFuture<T> handle = new CompletableFuture<>();
+        
+        while (true) {
+            Request<T> request = (Request<T>) inFlight.get(key);
+            if (request == null) {
+                // Subscribe before the worker can see the request, so it never looks abandoned
+                Request<T> created = new Request<>(key, share, discard);
+                created.subscribe(handle);
+                request = (Request<T>) inFlight.putIfAbsent(key, created);
+                if (request == null) {
+                    getExecutor().execute(() -> run(created, task));
+                    return handle;
+                }
+            }
+            
+            if (request.subscribe(handle)) {
+                return handle;
+            }
+            
+            // Request already handed back or abandoned; start a fresh one
+            inFlight.remove(key, request);
+        }
+    }
+    
+    private <T> void run(Request<T> request, Supplier<T> task) {
+        // Skipped if every caller cancelled before we started
+        if (request.start()) {
+            try {
+                request.result = task.get();
+            } catch (Throwable t) {
+                request.error = t;
+            }
+        }
+        completed.add(request);
+    }
+    
+    /**
+     * Hand finished requests to their callers. Called on the render thread every frame.
+     */
+    public void drainCompleted() {
+        RenderSystem.assertOnRenderThread();
+        
+        Request<?> request;
+        while ((request = completed.poll()) != null) {
+            inFlight.remove(request.key, request);
+            request.complete();
+        }
+    }
+    
+    /**
+     * Get number of in-flight requests
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+    
+    /**
+     * Copy image so each caller owns one
+     */
+    private static NativeImage copyImage(NativeImage source) {
+        NativeImage copy = new NativeImage(source.getFormat(), source.getWidth(), source.getHeight(), false);
+        copy.copyFrom(source);
+        return copy;
+    }
+    
+    /**
+     * One deduplicated unit of work and its subscribers
+     */
+    private static class Request<T> {
+        final String key;
+        final UnaryOperator<T> share;
+        final Consumer<T> discard;
+        final List<CompletableFuture<T>> handles = new CopyOnWriteArrayList<>();
+        volatile T result;
+        volatile Throwable error;
+        volatile boolean cancelled;
+        private boolean closed = false;
+        
+        Request(String key, UnaryOperator<T> share, Consumer<T> discard) {
+            this.key = key;
+            this.share = share;
+            this.discard = discard;
+        }
+        
+        synchronized boolean subscribe(CompletableFuture<T> handle) {
+            if (closed) {
+                return false;
+            }
+            handles.add(handle);
+            return true;
+        }
+        
+        /**
+         * Claim the request for running. If every caller has cancelled, close it
+         * to new callers and mark it cancelled instead.
+         */
+        synchronized boolean start() {
+            for (CompletableFuture<T> handle : handles) {
+                if (!handle.isDone()) {
+                    return true;
+                }
+            }
+            closed = true;
+            cancelled = true;
+            return false;
+        }
+        
+        void complete() {
+            synchronized (this) {
+                closed = true;
+            }
+            
+            if (error != null) {
+                for (CompletableFuture<T> handle : handles) {
+                    handle.completeExceptionally(error);
+                }
+                return;
+            }
+            
+            if (cancelled) {
+                for (CompletableFuture<T> handle : handles) {
+                    handle.cancel(false);
+                }
+                return;
+            }
+            
+            // First live caller takes the result, later ones get copies
+            T value = result;
+            boolean taken = false;
+            for (CompletableFuture<T> handle : handles) {
+                if (handle.isDone()) {
+                    continue;
+                }
+                if (value == null) {
+                    handle.complete(null);
+                    continue;
+                }
+                
+                T delivered = taken ? share.apply(value) : value;
+                if (handle.complete(delivered)) {
+                    taken = true;
+                } else if (taken) {
+                    // Cancelled while we were copying
+                    discard.accept(delivered);
+                }
+            }
+            
+            if (!taken && value != null) {
+                discard.accept(value);
+            }
+        }
+    }
+}
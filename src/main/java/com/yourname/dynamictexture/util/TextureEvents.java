@@ -0,0 +1,160 @@
+package com.yourname.dynamictexture.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Java Flight Recorder events for texture loading and reloads.
+ * All events are disabled unless a recording's settings enable them
+ * (e.g. {@code dynamictexture.TextureLoad#enabled=true} in a .jfc file).
+ * Each {@code start()} returns null while its event is disabled, so call sites
+ * allocate nothing and only pay for the enabled check.
+ */
+public final class TextureEvents {
+    private TextureEvents() {
+    }
+    
+    @Name("dynamictexture.TextureLoad")
+    @Label("Texture Load")
+    @Description("Texture read from a resource pack and decoded")
+    @Category({"Dynamic Texture"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class TextureLoad extends Event {
+        private static final EventType TYPE = EventType.getEventType(TextureLoad.class);
+        
+        @Label("Resource")
+        public String resource;
+        
+        @Label("Size")
+        @DataAmount
+        public long byteSize;
+        
+        @Label("Decode Time")
+        @Timespan
+        public long decodeTime;
+        
+        @Nullable
+        public static TextureLoad start() {
+            if (!TYPE.isEnabled()) {
+                return null;
+            }
+            TextureLoad event = new TextureLoad();
+            event.begin();
+            return event;
+        }
+    }
+    
+    @Name("dynamictexture.TextureUpload")
+    @Label("Texture Upload")
+    @Description("Image uploaded to a GPU texture")
+    @Category({"Dynamic Texture"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class TextureUpload extends Event {
+        private static final EventType TYPE = EventType.getEventType(TextureUpload.class);
+        
+        @Label("Texture")
+        public String texture;
+        
+        @Label("Width")
+        public int width;
+        
+        @Label("Height")
+        public int height;
+        
+        @Nullable
+        public static TextureUpload start() {
+            if (!TYPE.isEnabled()) {
+                return null;
+            }
+            TextureUpload event = new TextureUpload();
+            event.begin();
+            return event;
+        }
+    }
+    
+    @Name("dynamictexture.ModelLoad")
+    @Label("Model Load")
+    @Description("Custom item model looked up from the baked model manager")
+    @Category({"Dynamic Texture"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class ModelLoad extends Event {
+        private static final EventType TYPE = EventType.getEventType(ModelLoad.class);
+        
+        @Label("Model")
+        public String model;
+        
+        @Label("Found")
+        public boolean found;
+        
+        @Nullable
+        public static ModelLoad start() {
+            if (!TYPE.isEnabled()) {
+                return null;
+            }
+            ModelLoad event = new ModelLoad();
+            event.begin();
+            return event;
+        }
+    }
+    
+    @Name("dynamictexture.AnimationLoad")
+    @Label("Animation Load")
+    @Description("Texture .mcmeta read and parsed")
+    @Category({"Dynamic Texture"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class AnimationLoad extends Event {
+        private static final EventType TYPE = EventType.getEventType(AnimationLoad.class);
+        
+        @Label("Resource")
+        public String resource;
+        
+        @Label("Animated")
+        public boolean animated;
+        
+        @Nullable
+        public static AnimationLoad start() {
+            if (!TYPE.isEnabled()) {
+                return null;
+            }
+            AnimationLoad event = new AnimationLoad();
+            event.begin();
+            return event;
+        }
+    }
+    
+    @Name("dynamictexture.CacheClear")
+    @Label("Cache Clear")
+    @Description("Cache cleared by the resource reload listener")
+    @Category({"Dynamic Texture"})
+    @Enabled(false)
+    @StackTrace(false)
+    public static class CacheClear extends Event {
+        private static final EventType TYPE = EventType.getEventType(CacheClear.class);
+        
+        @Label("Cache")
+        public String cache;
+        
+        @Nullable
+        public static CacheClear start() {
+            if (!TYPE.isEnabled()) {
+                return null;
+            }
+            CacheClear event = new CacheClear();
+            event.begin();
+            return event;
+        }
+    }
+}
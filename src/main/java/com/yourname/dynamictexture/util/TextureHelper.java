@@ -2,6 +2,16 @@ package com.yourname.dynamictexture.util;
 
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.UploadScheduler;
+import com.yourname.dynamictexture.client.renderer.atlas.AtlasRegion;
+import com.yourname.dynamictexture.core.hash.ContentHash;
+import com.yourname.dynamictexture.core.image.MipChain;
+import com.yourname.dynamictexture.core.image.PixelKernels;
+import com.yourname.dynamictexture.core.image.PngHeader;
+import com.yourname.dynamictexture.core.image.Resampler;
+import com.yourname.dynamictexture.core.image.ScratchBuffers;
+import com.yourname.dynamictexture.core.io.ResourceBytes;
+import com.yourname.dynamictexture.manager.TextureIndex;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.texture.NativeImage;
 import net.minecraft.client.texture.NativeImageBackedTexture;
@@ -11,11 +21,11 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Helper class for texture operations
@@ -31,12 +41,25 @@ public class TextureHelper {
         return Identifier.of(namespace, "textures/item/" + textureName + ".png");
     }
     
+    /**
+     * Get the texture name of an item texture identifier, the inverse of {@link #getTextureIdentifier}
+     */
+    public static String getTextureName(Identifier textureId) {
+        String path = textureId.getPath();
+        return path.substring("textures/item/".length(), path.length() - ".png".length());
+    }
+    
     /**
      * Check if texture exists in resource pack
      */
     public static boolean textureExists(String namespace, String textureName) {
         Identifier textureId = getTextureIdentifier(namespace, textureName);
         
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        if (index.isReady()) {
+            return index.get(textureId) != null;
+        }
+        
         try {
             Optional<Resource> resource = client.getResourceManager().getResource(textureId);
             return resource.isPresent();
@@ -63,8 +86,20 @@ public class TextureHelper {
             
             Resource resource = resourceOpt.get();
             
-            try (InputStream stream = resource.getInputStream()) {
-                NativeImage image = NativeImage.read(stream);
+            TextureEvents.TextureLoad event = TextureEvents.TextureLoad.start();
+            
+            // Decode straight from the mapped or pooled bytes, which also splits I/O from decoding
+            try (ResourceBytes bytes = PackReader.getInstance().read(textureId, resource)) {
+                long decodeStart = System.nanoTime();
+                NativeImage image = NativeImage.read(bytes.buffer());
+                
+                if (event != null) {
+                    event.decodeTime = System.nanoTime() - decodeStart;
+                    event.byteSize = bytes.size();
+                    event.resource = textureId.toString();
+                    event.commit();
+                }
+                
                 DynamicTextureLoader.LOGGER.debug("Loaded texture: {}", textureId);
                 return image;
             }
@@ -75,9 +110,29 @@ public class TextureHelper {
     }
     
     /**
-     * Register dynamic texture
+     * Load texture as NativeImage on the decode pool.
+     * Completes on the render thread with null if the texture is missing;
+     * the caller owns the image and must close it.
+     */
+    public static CompletableFuture<NativeImage> loadTextureAsync(String namespace, String textureName) {
+        return TextureDecodePool.getInstance().submitImage(
+            "load:" + namespace + ":" + textureName,
+            () -> loadTexture(namespace, textureName)
+        );
+    }
+    
+    /**
+     * Register dynamic texture as its own GPU texture.
+     * Prefer {@link #registerAtlasTexture} for small images drawn by the GUI.
      */
     public static Identifier registerTexture(String name, NativeImage image) {
+        return registerTexture(name, image, UploadScheduler.Priority.PRELOAD);
+    }
+    
+    /**
+     * Register dynamic texture, queueing its upload with the given priority
+     */
+    public static Identifier registerTexture(String name, NativeImage image, UploadScheduler.Priority priority) {
         String key = DynamicTextureLoader.MOD_ID + ":dynamic/" + name;
         
         // Check if already registered
@@ -87,19 +142,76 @@ public class TextureHelper {
         }
         
         Identifier textureId = Identifier.of(DynamicTextureLoader.MOD_ID, "dynamic/" + name);
+        registeredTextures.put(key, textureId);
         
-        // Register texture with TextureManager
-        client.execute(() -> {
+        // Upload within the per-frame budget instead of all at once
+        UploadScheduler.getInstance().enqueue(priority, () -> {
+            // Unregistered before the upload ran
+            if (registeredTextures.get(key) != textureId) {
+                image.close();
+                return;
+            }
+            TextureEvents.TextureUpload event = TextureEvents.TextureUpload.start();
             NativeImageBackedTexture texture = new NativeImageBackedTexture(image);
             client.getTextureManager().registerTexture(textureId, texture);
+            if (event != null) {
+                event.texture = textureId.toString();
+                event.width = image.getWidth();
+                event.height = image.getHeight();
+                event.commit();
+            }
         });
         
-        registeredTextures.put(key, textureId);
         DynamicTextureLoader.LOGGER.info("Registered dynamic texture: {}", textureId);
         
         return textureId;
     }
     
+    /**
+     * Release a texture registered with {@link #registerTexture}
+     */
+    public static void unregisterTexture(String name) {
+        String key = DynamicTextureLoader.MOD_ID + ":dynamic/" + name;
+        Identifier textureId = registeredTextures.remove(key);
+        
+        if (textureId != null) {
+            // Queued behind any pending upload of the same texture. A re-registration may be
+            // uploaded first at a higher priority, and its texture must survive this destroy.
+            UploadScheduler.getInstance().enqueue(UploadScheduler.Priority.PRELOAD, () -> {
+                if (!registeredTextures.containsKey(key)) {
+                    client.getTextureManager().destroyTexture(textureId);
+                }
+            });
+            DynamicTextureLoader.LOGGER.debug("Unregistered dynamic texture: {}", textureId);
+        }
+    }
+    
+    /**
+     * Release a texture registered with {@link #registerAtlasTexture}
+     */
+    public static void unregisterAtlasTexture(String name) {
+        Identifier textureId = Identifier.of(DynamicTextureLoader.MOD_ID, "dynamic/" + name);
+        DynamicTextureLoader.textureAtlasManager.unregisterSprite(textureId);
+    }
+    
+    /**
+     * Register dynamic texture in the runtime atlas.
+     * The image is copied; must be called on the render thread.
+     */
+    @Nullable
+    public static AtlasRegion registerAtlasTexture(String name, NativeImage image) {
+        return registerAtlasTexture(name, image, UploadScheduler.Priority.PRELOAD);
+    }
+    
+    /**
+     * Register dynamic texture in the runtime atlas, queueing its upload with the given priority
+     */
+    @Nullable
+    public static AtlasRegion registerAtlasTexture(String name, NativeImage image, UploadScheduler.Priority priority) {
+        Identifier textureId = Identifier.of(DynamicTextureLoader.MOD_ID, "dynamic/" + name);
+        return DynamicTextureLoader.textureAtlasManager.registerDynamicSprite(textureId, image, priority);
+    }
+    
     /**
      * Bind texture for rendering
      */
@@ -108,28 +220,77 @@ public class TextureHelper {
     }
     
     /**
-     * Get texture dimensions
+     * Get a texture's PNG header from the texture index, or from the resource before the first reload
+     */
+    @Nullable
+    private static PngHeader getPngHeader(String namespace, String textureName) {
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        if (!index.isReady()) {
+            return readPngHeader(namespace, textureName);
+        }
+        
+        TextureIndex.Entry entry = index.get(getTextureIdentifier(namespace, textureName));
+        return entry != null ? entry.header : null;
+    }
+    
+    /**
+     * Read a texture's PNG header without decoding it.
+     * Returns null if the texture is missing or isn't a valid PNG.
+     */
+    @Nullable
+    public static PngHeader readPngHeader(String namespace, String textureName) {
+        Identifier textureId = getTextureIdentifier(namespace, textureName);
+        
+        try {
+            Optional<Resource> resourceOpt = client.getResourceManager().getResource(textureId);
+            
+            if (resourceOpt.isEmpty()) {
+                return null;
+            }
+            
+            try (InputStream stream = resourceOpt.get().getInputStream()) {
+                return PngHeader.read(stream);
+            }
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.warn("Invalid PNG header in {}: {}", textureId, e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Get texture dimensions from the PNG header
      */
     @Nullable
     public static TextureDimensions getTextureDimensions(String namespace, String textureName) {
-        NativeImage image = loadTexture(namespace, textureName);
+        PngHeader header = getPngHeader(namespace, textureName);
         
-        if (image != null) {
-            TextureDimensions dimensions = new TextureDimensions(
-                image.getWidth(),
-                image.getHeight()
-            );
-            image.close();
-            return dimensions;
+        if (header != null) {
+            return new TextureDimensions(header.width, header.height);
         }
         
         return null;
     }
     
+    /**
+     * Get texture dimensions on the decode pool
+     */
+    public static CompletableFuture<TextureDimensions> getTextureDimensionsAsync(String namespace, String textureName) {
+        return TextureDecodePool.getInstance().submitValue(
+            "dims:" + namespace + ":" + textureName,
+            () -> getTextureDimensions(namespace, textureName)
+        );
+    }
+    
     /**
      * Check if texture is animated (has .mcmeta file)
      */
     public static boolean hasAnimationData(String namespace, String textureName) {
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        if (index.isReady()) {
+            TextureIndex.Entry entry = index.get(getTextureIdentifier(namespace, textureName));
+            return entry != null && entry.animation != null;
+        }
+        
         Identifier mcmetaId = Identifier.of(
             namespace,
             "textures/item/" + textureName + ".png.mcmeta"
@@ -162,35 +323,15 @@ public class TextureHelper {
     }
     
     /**
-     * Create tinted texture
+     * Create tinted texture, multiplying by an 0xRRGGBB color
      */
     @Nullable
     public static NativeImage createTintedTexture(NativeImage original, int color) {
         try {
-            int width = original.getWidth();
-            int height = original.getHeight();
-            
-            NativeImage tinted = new NativeImage(width, height, false);
-            
-            float r = ((color >> 16) & 0xFF) / 255.0f;
-            float g = ((color >> 8) & 0xFF) / 255.0f;
-            float b = (color & 0xFF) / 255.0f;
-            
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    int pixel = original.getColor(x, y);
-                    
-                    int alpha = (pixel >> 24) & 0xFF;
-                    int red = (int) (((pixel >> 16) & 0xFF) * r);
-                    int green = (int) (((pixel >> 8) & 0xFF) * g);
-                    int blue = (int) ((pixel & 0xFF) * b);
-                    
-                    int newPixel = (alpha << 24) | (red << 16) | (green << 8) | blue;
-                    tinted.setColor(x, y, newPixel);
-                }
-            }
-            
-            return tinted;
+            int count = original.getWidth() * original.getHeight();
+            int[] pixels = readPixels(original, 0);
+            PixelKernels.tint(pixels, pixels, count, color);
+            return NativeImagePixels.create(pixels, original.getWidth(), original.getHeight());
         } catch (Exception e) {
             DynamicTextureLoader.LOGGER.error("Failed to create tinted texture", e);
             return null;
@@ -203,29 +344,10 @@ public class TextureHelper {
     @Nullable
     public static NativeImage createGrayscaleTexture(NativeImage original) {
         try {
-            int width = original.getWidth();
-            int height = original.getHeight();
-            
-            NativeImage grayscale = new NativeImage(width, height, false);
-            
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    int pixel = original.getColor(x, y);
-                    
-                    int alpha = (pixel >> 24) & 0xFF;
-                    int red = (pixel >> 16) & 0xFF;
-                    int green = (pixel >> 8) & 0xFF;
-                    int blue = pixel & 0xFF;
-                    
-                    // Calculate grayscale value
-                    int gray = (int) (0.299 * red + 0.587 * green + 0.114 * blue);
-                    
-                    int newPixel = (alpha << 24) | (gray << 16) | (gray << 8) | gray;
-                    grayscale.setColor(x, y, newPixel);
-                }
-            }
-            
-            return grayscale;
+            int count = original.getWidth() * original.getHeight();
+            int[] pixels = readPixels(original, 0);
+            PixelKernels.grayscale(pixels, pixels, count);
+            return NativeImagePixels.create(pixels, original.getWidth(), original.getHeight());
         } catch (Exception e) {
             DynamicTextureLoader.LOGGER.error("Failed to create grayscale texture", e);
             return null;
@@ -233,27 +355,17 @@ public class TextureHelper {
     }
     
     /**
-     * Resize texture
+     * Resize texture, area-averaging when shrinking and nearest-neighbor when enlarging
      */
     @Nullable
     public static NativeImage resizeTexture(NativeImage original, int newWidth, int newHeight) {
         try {
-            NativeImage resized = new NativeImage(newWidth, newHeight, false);
-            
-            float xRatio = (float) original.getWidth() / newWidth;
-            float yRatio = (float) original.getHeight() / newHeight;
-            
-            for (int x = 0; x < newWidth; x++) {
-                for (int y = 0; y < newHeight; y++) {
-                    int srcX = (int) (x * xRatio);
-                    int srcY = (int) (y * yRatio);
-                    
-                    int pixel = original.getColor(srcX, srcY);
-                    resized.setColor(x, y, pixel);
-                }
-            }
-            
-            return resized;
+            int[] resized = ScratchBuffers.get(1, newWidth * newHeight);
+            Resampler.resizeArea(
+                readPixels(original, 0), original.getWidth(), original.getHeight(),
+                resized, newWidth, newHeight
+            );
+            return NativeImagePixels.create(resized, newWidth, newHeight);
         } catch (Exception e) {
             DynamicTextureLoader.LOGGER.error("Failed to resize texture", e);
             return null;
@@ -269,34 +381,13 @@ public class TextureHelper {
             int width = Math.min(texture1.getWidth(), texture2.getWidth());
             int height = Math.min(texture1.getHeight(), texture2.getHeight());
             
-            NativeImage blended = new NativeImage(width, height, false);
-            
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    int pixel1 = texture1.getColor(x, y);
-                    int pixel2 = texture2.getColor(x, y);
-                    
-                    int a1 = (pixel1 >> 24) & 0xFF;
-                    int r1 = (pixel1 >> 16) & 0xFF;
-                    int g1 = (pixel1 >> 8) & 0xFF;
-                    int b1 = pixel1 & 0xFF;
-                    
-                    int a2 = (pixel2 >> 24) & 0xFF;
-                    int r2 = (pixel2 >> 16) & 0xFF;
-                    int g2 = (pixel2 >> 8) & 0xFF;
-                    int b2 = pixel2 & 0xFF;
-                    
-                    int a = (int) (a1 * (1 - alpha) + a2 * alpha);
-                    int r = (int) (r1 * (1 - alpha) + r2 * alpha);
-                    int g = (int) (g1 * (1 - alpha) + g2 * alpha);
-                    int b = (int) (b1 * (1 - alpha) + b2 * alpha);
-                    
-                    int blendedPixel = (a << 24) | (r << 16) | (g << 8) | b;
-                    blended.setColor(x, y, blendedPixel);
-                }
-            }
-            
-            return blended;
+            int[] blended = ScratchBuffers.get(2, width * height);
+            PixelKernels.blend(
+                readPixels(texture1, 0), texture1.getWidth(),
+                readPixels(texture2, 1), texture2.getWidth(),
+                blended, width, height, alpha
+            );
+            return NativeImagePixels.create(blended, width, height);
         } catch (Exception e) {
             DynamicTextureLoader.LOGGER.error("Failed to blend textures", e);
             return null;
@@ -304,39 +395,58 @@ public class TextureHelper {
     }
     
     /**
-     * Extract texture from resource pack
+     * Copy image pixels into this thread's scratch buffer for the slot.
+     * The buffer may be longer than the image.
+     */
+    private static int[] readPixels(NativeImage image, int slot) {
+        int[] pixels = ScratchBuffers.get(slot, image.getWidth() * image.getHeight());
+        NativeImagePixels.read(image, pixels);
+        return pixels;
+    }
+    
+    /**
+     * Extract texture from resource pack as a heap copy.
+     * Prefer {@link #openTextureBytes}, which avoids the copy.
      */
     @Nullable
     public static byte[] extractTextureBytes(String namespace, String textureName) {
+        try (ResourceBytes bytes = openTextureBytes(namespace, textureName)) {
+            return bytes != null ? bytes.toByteArray() : null;
+        }
+    }
+    
+    /**
+     * Get a read-only view of a texture's bytes, mapped from the pack file where possible.
+     * Returns null if the texture is missing or unreadable; the caller must close the result.
+     */
+    @Nullable
+    public static ResourceBytes openTextureBytes(String namespace, String textureName) {
         Identifier textureId = getTextureIdentifier(namespace, textureName);
         
         try {
-            Optional<Resource> resourceOpt = client.getResourceManager().getResource(textureId);
-            
-            if (resourceOpt.isEmpty()) {
-                return null;
-            }
-            
-            Resource resource = resourceOpt.get();
-            
-            try (InputStream stream = resource.getInputStream();
-                 ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-                
-                byte[] buffer = new byte[4096];
-                int bytesRead;
-                
-                while ((bytesRead = stream.read(buffer)) != -1) {
-                    baos.write(buffer, 0, bytesRead);
-                }
-                
-                return baos.toByteArray();
-            }
+            return PackReader.getInstance().read(textureId);
         } catch (Exception e) {
             DynamicTextureLoader.LOGGER.error("Failed to extract texture bytes: " + textureId, e);
             return null;
         }
     }
     
+    /**
+     * Get the content hash of a texture's PNG bytes, from the texture index when it is ready.
+     * Returns 0 if the texture is missing or unreadable.
+     */
+    public static long getContentHash(String namespace, String textureName) {
+        TextureIndex index = DynamicTextureLoader.textureIndex;
+        if (index.isReady()) {
+            TextureIndex.Entry entry = index.get(getTextureIdentifier(namespace, textureName));
+            return entry != null ? entry.contentHash : 0;
+        }
+        
+        try (ResourceBytes bytes = openTextureBytes(namespace, textureName)) {
+            return bytes != null ? ContentHash.hash64(bytes.buffer()) : 0;
+        }
+    }
+    
     /**
      * Convert NativeImage to BufferedImage
      */
@@ -347,13 +457,7 @@ public class TextureHelper {
             int height = nativeImage.getHeight();
             
             BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-            
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    int color = nativeImage.getColor(x, y);
-                    bufferedImage.setRGB(x, y, color);
-                }
-            }
+            bufferedImage.setRGB(0, 0, width, height, readPixels(nativeImage, 0), 0, width);
             
             return bufferedImage;
         } catch (Exception e) {
@@ -363,74 +467,76 @@ public class TextureHelper {
     }
     
     /**
-     * Get average color from texture
+     * Get average ARGB color of the non-transparent pixels
      */
     public static int getAverageColor(NativeImage image) {
-        long totalR = 0, totalG = 0, totalB = 0, totalA = 0;
-        int pixelCount = 0;
-        
-        int width = image.getWidth();
-        int height = image.getHeight();
-        
-        for (int x = 0; x < width; x++) {
-            for (int y = 0; y < height; y++) {
-                int pixel = image.getColor(x, y);
-                
-                int alpha = (pixel >> 24) & 0xFF;
-                if (alpha > 0) { // Skip transparent pixels
-                    totalA += alpha;
-                    totalR += (pixel >> 16) & 0xFF;
-                    totalG += (pixel >> 8) & 0xFF;
-                    totalB += pixel & 0xFF;
-                    pixelCount++;
-                }
-            }
-        }
-        
-        if (pixelCount == 0) {
-            return 0;
-        }
-        
-        int avgA = (int) (totalA / pixelCount);
-        int avgR = (int) (totalR / pixelCount);
-        int avgG = (int) (totalG / pixelCount);
-        int avgB = (int) (totalB / pixelCount);
-        
-        return (avgA << 24) | (avgR << 16) | (avgG << 8) | avgB;
+        return PixelKernels.averageColor(readPixels(image, 0), image.getWidth() * image.getHeight());
     }
     
     /**
-     * Create thumbnail of texture
+     * Create thumbnail of texture.
+     * Tries the in-memory mip chain, then the on-disk thumbnail cache, and only then decodes.
      */
     @Nullable
     public static NativeImage createThumbnail(String namespace, String textureName, int size) {
-        NativeImage original = loadTexture(namespace, textureName);
-        
-        if (original == null) {
+        try {
+            int[] pixels = ScratchBuffers.get(1, size * size);
+            
+            MipChain chain = MipCache.getInstance().getIfPresent(namespace, textureName);
+            if (chain != null) {
+                chain.resize(pixels, size, size);
+                return NativeImagePixels.create(pixels, size, size);
+            }
+            
+            long contentHash = getContentHash(namespace, textureName);
+            if (contentHash == 0) {
+                return null;
+            }
+            
+            if (ThumbnailCache.getInstance().get(contentHash, size, pixels)) {
+                return NativeImagePixels.create(pixels, size, size);
+            }
+            
+            chain = MipCache.getInstance().get(namespace, textureName);
+            if (chain == null) {
+                return null;
+            }
+            
+            chain.resize(pixels, size, size);
+            ThumbnailCache.getInstance().put(contentHash, size, pixels);
+            return NativeImagePixels.create(pixels, size, size);
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.error("Failed to create thumbnail", e);
             return null;
         }
-        
-        NativeImage thumbnail = resizeTexture(original, size, size);
-        original.close();
-        
-        return thumbnail;
     }
     
     /**
-     * Validate texture format
+     * Create thumbnail of texture on the decode pool.
+     * The caller owns the image and must close it.
+     */
+    public static CompletableFuture<NativeImage> createThumbnailAsync(String namespace, String textureName, int size) {
+        return TextureDecodePool.getInstance().submitImage(
+            "thumb:" + namespace + ":" + textureName + "@" + size,
+            () -> createThumbnail(namespace, textureName, size)
+        );
+    }
+    
+    /**
+     * Validate texture format from its PNG header
      */
     public static boolean isValidTexture(String namespace, String textureName) {
-        NativeImage image = loadTexture(namespace, textureName);
+        PngHeader header = getPngHeader(namespace, textureName);
         
-        if (image == null) {
+        if (header == null) {
             return false;
         }
         
         boolean valid = true;
         
         // Check dimensions are power of 2 (optional, for performance)
-        int width = image.getWidth();
-        int height = image.getHeight();
+        int width = header.width;
+        int height = header.height;
         
         if (!isPowerOfTwo(width) || !isPowerOfTwo(height)) {
             DynamicTextureLoader.LOGGER.warn(
@@ -440,10 +546,19 @@ public class TextureHelper {
             // Not necessarily invalid, just a warning
         }
         
-        image.close();
         return valid;
     }
     
+    /**
+     * Validate texture format on the decode pool
+     */
+    public static CompletableFuture<Boolean> isValidTextureAsync(String namespace, String textureName) {
+        return TextureDecodePool.getInstance().submitValue(
+            "valid:" + namespace + ":" + textureName,
+            () -> isValidTexture(namespace, textureName)
+        );
+    }
+    
     /**
      * Check if number is power of 2
      */
@@ -464,6 +579,7 @@ public class TextureHelper {
         }
         
         registeredTextures.clear();
+        DynamicTextureLoader.textureAtlasManager.clearDynamicAtlas();
         DynamicTextureLoader.LOGGER.info("Cleared all registered textures");
     }
     
@@ -0,0 +1,70 @@
+package com.yourname.dynamictexture.util;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.image.PixelPipeline;
+import com.yourname.dynamictexture.core.image.ScratchBuffers;
+import net.minecraft.client.texture.NativeImage;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Chained texture operations rendered in a single pass.
+ * <pre>
+ * NativeImage icon = TexturePipeline.from(texture).resize(64, 64).tint(0xFF8040).blend(overlay, 0.5f).render();
+ * </pre>
+ * Pixels are copied out of the source and overlay images when they are added,
+ * so those may be closed before {@link #render()}.
+ */
+public class TexturePipeline {
+    private final PixelPipeline pipeline;
+    
+    private TexturePipeline(PixelPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+    
+    public static TexturePipeline from(NativeImage image) {
+        return new TexturePipeline(PixelPipeline.from(copyPixels(image), image.getWidth(), image.getHeight()));
+    }
+    
+    public TexturePipeline resize(int width, int height) {
+        pipeline.resize(width, height);
+        return this;
+    }
+    
+    public TexturePipeline tint(int color) {
+        pipeline.tint(color);
+        return this;
+    }
+    
+    public TexturePipeline grayscale() {
+        pipeline.grayscale();
+        return this;
+    }
+    
+    public TexturePipeline blend(NativeImage overlay, float alpha) {
+        pipeline.blend(copyPixels(overlay), overlay.getWidth(), overlay.getHeight(), alpha);
+        return this;
+    }
+    
+    /**
+     * Render to a new image owned by the caller, or null on failure
+     */
+    @Nullable
+    public NativeImage render() {
+        try {
+            int width = pipeline.getWidth();
+            int height = pipeline.getHeight();
+            int[] pixels = ScratchBuffers.get(2, width * height);
+            pipeline.render(pixels);
+            return NativeImagePixels.create(pixels, width, height);
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.error("Failed to render texture pipeline", e);
+            return null;
+        }
+    }
+    
+    private static int[] copyPixels(NativeImage image) {
+        int[] pixels = new int[image.getWidth() * image.getHeight()];
+        NativeImagePixels.read(image, pixels);
+        return pixels;
+    }
+}
@@ -0,0 +1,77 @@
+package com.yourname.dynamictexture.util;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.core.cache.ThumbnailStore;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.nio.file.Path;
+
+/**
+ * Thumbnails persisted across sessions in {@code config/dynamictexture/thumbnails.bin}.
+ * Keyed by the content hash of the source PNG, so renamed or repacked textures still hit
+ * and edited ones miss. Disabled for the session if the file can't be opened.
+ */
+public class ThumbnailCache {
+    private static final ThumbnailCache INSTANCE = new ThumbnailCache();
+    private static final Path FILE = FabricLoader.getInstance().getConfigDir().resolve("dynamictexture/thumbnails.bin");
+    private ThumbnailStore store;
+    private boolean disabled = false;
+    
+    private ThumbnailCache() {
+    }
+    
+    public static ThumbnailCache getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Copy a stored {@code size x size} thumbnail into {@code dst}
+     *
+     * @return false on a miss or when the cache is unavailable
+     */
+    public boolean get(long contentHash, int size, int[] dst) {
+        ThumbnailStore store = getStore();
+        return store != null && store.get(contentHash, size, size, dst);
+    }
+    
+    /**
+     * Store a {@code size x size} ARGB thumbnail
+     */
+    public void put(long contentHash, int size, int[] pixels) {
+        ThumbnailStore store = getStore();
+        if (store != null) {
+            store.put(contentHash, size, size, pixels);
+        }
+    }
+    
+    /**
+     * Flush and release the file; the cache stays off for the rest of the session
+     */
+    public synchronized void close() {
+        disabled = true;
+        if (store == null) {
+            return;
+        }
+        
+        try {
+            store.close();
+        } catch (Exception e) {
+            DynamicTextureLoader.LOGGER.warn("Failed to close thumbnail cache", e);
+        }
+        store = null;
+    }
+    
+    private synchronized ThumbnailStore getStore() {
+        if (store == null && !disabled) {
+            try {
+                long capacity = Math.max(1, DynamicTextureLoader.config.thumbnailCacheMb) * 1024L * 1024L;
+                store = ThumbnailStore.open(FILE, capacity);
+                DynamicTextureLoader.LOGGER.info("Opened thumbnail cache with {} entries", store.size());
+            } catch (Exception e) {
+                disabled = true;
+                DynamicTextureLoader.LOGGER.warn("Thumbnail cache unavailable, thumbnails won't persist: {}", e.toString());
+            }
+        }
+        return store;
+    }
+}
@@ -0,0 +1,53 @@
+package com.yourname.dynamictexture.manager;
+
+import com.yourname.dynamictexture.DynamicTextureLoader;
+import com.yourname.dynamictexture.client.renderer.RenderStats;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TextureManagerTest {
+    
+    @BeforeAll
+    static void bootstrap() {
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        DynamicTextureLoader.bindingRegistry = new BindingRegistry();
+    }
+    
+    @Test
+    void copiedStackHitsMemo() {
+        TextureManager manager = new TextureManager();
+        ItemStack stack = new ItemStack(Items.DIAMOND_SWORD);
+        manager.applyCustomTexture(stack, "file/pack.zip", "minecraft", "copied_blade", null);
+        TextureBinding binding = manager.getBinding(stack);
+        assertNotNull(binding);
+        
+        long hits = RenderStats.getInstance().cacheHits.sum();
+        long misses = RenderStats.getInstance().cacheMisses.sum();
+        assertSame(binding, manager.getBinding(stack.copy()));
+        assertEquals(hits + 1, RenderStats.getInstance().cacheHits.sum());
+        assertEquals(misses, RenderStats.getInstance().cacheMisses.sum());
+    }
+    
+    @Test
+    void changedDataMissesMemo() {
+        TextureManager manager = new TextureManager();
+        ItemStack stack = new ItemStack(Items.DIAMOND_SWORD);
+        manager.applyCustomTexture(stack, "file/pack.zip", "minecraft", "first_blade", null);
+        TextureBinding first = manager.getBinding(stack);
+        
+        manager.applyCustomTexture(stack, "file/pack.zip", "minecraft", "second_blade", null);
+        TextureBinding second = manager.getBinding(stack);
+        assertNotSame(first, second);
+        assertEquals("second_blade", second.data.texture);
+    }
+}